@@ -0,0 +1,23 @@
+package conway;
+
+import org.openjdk.jmh.results.format.ResultFormatType; // Importe les formats de résultats JMH
+import org.openjdk.jmh.runner.Runner; // Importe le lanceur de benchmarks
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder; // Importe la construction des options
+import org.openjdk.jmh.runner.options.CommandLineOptions; // Importe l'analyse des options de la ligne de commande
+import org.openjdk.jmh.runner.options.OptionsBuilder; // Importe les options programmatiques
+
+// Point d'entrée de benchmarks.jar : mêmes options que le lanceur JMH standard, mais les résultats sont
+// écrits par défaut en JSON dans jmh-result.json, pour comparer les moteurs d'une version à l'autre.
+//   java -jar benchmarks/target/benchmarks.jar StepBenchmark -p engine=tiled
+//   java -jar benchmarks/target/benchmarks.jar -rff avant.json
+public class BenchmarkMain { // Lanceur JMH avec sortie JSON par défaut
+    public static void main(String[] args) throws Exception { // Analyse les options puis lance les benchmarks
+        CommandLineOptions cmd = new CommandLineOptions(args); // Options JMH habituelles (-p, -f, -wi, -rff, ...)
+        if (cmd.shouldHelp()) { cmd.showHelp(); return; } // -h : aide de JMH
+        if (cmd.shouldList()) { new Runner(cmd).list(); return; } // -l : liste des benchmarks
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cmd); // Les options explicites restent prioritaires
+        if (!cmd.getResultFormat().hasValue()) options.resultFormat(ResultFormatType.JSON); // JSON par défaut
+        if (!cmd.getResult().hasValue()) options.result("jmh-result.json"); // Fichier de résultats par défaut
+        new Runner(options.build()).run(); // Lance les benchmarks sélectionnés
+    }
+}
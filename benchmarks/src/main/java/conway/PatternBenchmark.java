@@ -0,0 +1,42 @@
+package conway;
+
+import org.openjdk.jmh.annotations.*; // Importe les annotations JMH
+import java.io.IOException; // Importe l'exception de lecture du motif
+import java.io.StringReader; // Importe la lecture d'un motif depuis une chaîne
+import java.util.concurrent.TimeUnit; // Importe l'unité de temps des résultats
+
+// Évolution complète de motifs « mathusalem » connus jusqu'à leur stabilisation : acorn (5206 générations,
+// population finale 633) et R-pentomino (1103 générations, population finale 116).
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PatternBenchmark { // advance() jusqu'à la stabilisation
+    @Param({"acorn", "rpentomino"})
+    public String pattern; // Motif mesuré
+    @Param({"sparse", "tiled", "hashlife"})
+    public String engine; // Moteur mesuré
+
+    private LifeEngine life; // Moteur de la mesure en cours
+    private long generations; // Générations jusqu'à la stabilisation
+
+    @Setup(Level.Iteration)
+    public void place() throws IOException { // Pose le motif avant chaque mesure
+        String cells; // Motif au format .cells
+        switch (pattern) { // Motif demandé
+            case "acorn": cells = ".O.....\n...O...\nOO..OOO\n"; generations = 5206; break; // Acorn
+            case "rpentomino": cells = ".OO\nOO.\n.O.\n"; generations = 1103; break; // R-pentomino
+            default: throw new IllegalArgumentException("unknown pattern: " + pattern); // Motif inconnu
+        }
+        life = LifeEngine.create(engine, 64, 64); // Nouveau moteur
+        PatternIO.place(life, PatternIO.readCells(new StringReader(cells)), true); // Motif centré sur l'origine
+    }
+
+    @Benchmark
+    public long evolve() { // Évolution complète du motif
+        life.advance(generations); // Jusqu'à la stabilisation
+        return life.getPopulation(); // Population finale (consommée par JMH)
+    }
+}
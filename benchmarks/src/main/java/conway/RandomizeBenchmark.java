@@ -0,0 +1,29 @@
+package conway;
+
+import org.openjdk.jmh.annotations.*; // Importe les annotations JMH
+import java.util.concurrent.TimeUnit; // Importe l'unité de temps des résultats
+
+// Coût de randomize() (bouton « Aléatoire ») sur la zone par défaut du moteur.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomizeBenchmark { // randomize(0.25) selon le moteur et la taille de la zone
+    @Param({"sparse", "tiled", "hashlife"})
+    public String engine; // Moteur mesuré
+    @Param({"64", "512"})
+    public int size; // Côté de la zone par défaut
+
+    private LifeEngine life; // Moteur réutilisé (chaque appel remplace le contenu de la zone)
+
+    @Setup(Level.Trial)
+    public void create() { life = LifeEngine.create(engine, size, size); } // Moteur vide
+
+    @Benchmark
+    public long randomize() { // Remplit la zone à 25 %
+        life.randomize(0.25); // Même densité que le bouton « Aléatoire »
+        return life.getGeneration(); // Résultat consommé par JMH
+    }
+}
@@ -0,0 +1,48 @@
+package conway;
+
+import org.openjdk.jmh.annotations.*; // Importe les annotations JMH
+import java.awt.Graphics; // Importe le contexte de dessin de l'image
+import java.awt.image.BufferedImage; // Importe l'image hors écran cible
+import java.util.concurrent.TimeUnit; // Importe l'unité de temps des résultats
+
+// Rendu complet d'une vue 1280x800 dans une BufferedImage hors écran (rastérisation de la photographie,
+// copie et grille), comme après un déplacement ou un zoom. La photographie est figée : seul le dessin est mesuré.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderBenchmark { // LifePanel.paint selon le moteur
+    @Param({"sparse", "tiled", "hashlife"})
+    public String engine; // Moteur mesuré
+
+    private LifePanel panel; // Panneau dessiné hors écran
+    private BufferedImage target; // Image de destination
+    private Graphics graphics; // Contexte de dessin de l'image
+
+    @Setup(Level.Trial)
+    public void show() throws InterruptedException { // Prépare une photographie de la zone visible
+        LifeEngine life = LifeEngine.create(engine, 256, 256); // Nouveau moteur
+        BatchRunner.soup(life, 256, 256, 0.25, StepBenchmark.SEED); // Soupe reproductible
+        Simulation sim = new Simulation(life); // Thread de simulation (en pause)
+        panel = new LifePanel(sim); // Panneau à dessiner
+        panel.setSize(1280, 800); // Taille de la vue
+        target = new BufferedImage(1280, 800, BufferedImage.TYPE_INT_RGB); // Image de destination
+        graphics = target.getGraphics(); // Contexte de dessin
+        sim.start(); // Démarre le thread (il publiera la zone demandée)
+        panel.paint(graphics); // Premier dessin : transmet la zone visible
+        for (int i = 0; i < 500 && sim.getSnapshot().getRegion() == null; i++) Thread.sleep(10); // Attend la photographie
+        if (sim.getSnapshot().getRegion() == null) throw new IllegalStateException("no snapshot published"); // Échec
+    }
+
+    @TearDown(Level.Trial)
+    public void dispose() { graphics.dispose(); } // Libère le contexte de dessin
+
+    @Benchmark
+    public int paint() { // Rendu complet de la vue
+        panel.invalidateView(); // Oublie l'image en cache
+        panel.paint(graphics); // Rastérise et copie dans l'image
+        return target.getRGB(640, 400); // Résultat consommé par JMH
+    }
+}
@@ -0,0 +1,35 @@
+package conway;
+
+import org.openjdk.jmh.annotations.*; // Importe les annotations JMH
+import java.util.concurrent.TimeUnit; // Importe l'unité de temps des résultats
+
+// Coût d'une photographie de la zone visible (requête de zone countAlive) pour un écran de 1280x800 pixels,
+// à un pixel par cellule (shift=0) ou par bloc de 2^shift x 2^shift cellules.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark { // WorldSnapshot.of selon le moteur et le niveau de détail
+    @Param({"sparse", "tiled", "hashlife"})
+    public String engine; // Moteur mesuré
+    @Param({"0", "2", "6"})
+    public int shift; // Niveau de détail de la zone
+
+    private LifeEngine life; // Soupe de 1024x1024 évoluée
+    private Viewport region; // Zone photographiée
+
+    @Setup(Level.Trial)
+    public void soup() { // Soupe mature, centrée sur la zone
+        life = LifeEngine.create(engine, 1024, 1024); // Nouveau moteur
+        BatchRunner.soup(life, 1024, 1024, 0.25, StepBenchmark.SEED); // Soupe reproductible
+        life.advance(200); // Laisse la soupe se structurer
+        int rows = 800, cols = 1280; // Un bloc par pixel
+        int r0 = -(rows << shift) / 2 >> shift << shift, c0 = -(cols << shift) / 2 >> shift << shift; // Coin aligné sur 2^shift
+        region = new Viewport(r0, c0, shift, rows, cols); // Zone centrée sur l'origine
+    }
+
+    @Benchmark
+    public WorldSnapshot snapshot() { return WorldSnapshot.of(0, life, region, null); } // Photographie de la zone
+}
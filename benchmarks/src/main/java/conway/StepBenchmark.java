@@ -0,0 +1,47 @@
+package conway;
+
+import org.openjdk.jmh.annotations.*; // Importe les annotations JMH
+import java.util.concurrent.TimeUnit; // Importe l'unité de temps des résultats
+
+// Coût de step() sur des soupes aléatoires reproductibles : chaque mesure repart de la même soupe et calcule
+// BATCH générations, pour que le travail mesuré soit identique d'une version à l'autre.
+// size=64 : petit monde qui s'éteint vite (clairsemé) ; size=512 : grand monde actif (dense).
+// dense/torus calculent toute la surface du monde (size x size), quelle que soit l'activité de la soupe.
+// rule=B36/S23 (HighLife) mesure le chemin générique des moteurs face au chemin spécialisé de Conway.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = StepBenchmark.BATCH)
+@Measurement(iterations = 10, batchSize = StepBenchmark.BATCH)
+@Fork(1)
+public class StepBenchmark { // step() selon le moteur, la densité et la taille de la soupe
+    static final int BATCH = 100; // Générations calculées par mesure
+    static final long SEED = 42; // Graine commune à toutes les soupes
+
+    @Param({"sparse", "tiled", "parallel", "hashlife", "dense", "torus"})
+    public String engine; // Moteur mesuré
+    @Param({"0.1", "0.25", "0.5"})
+    public double density; // Densité initiale (0.25 = bouton « Aléatoire »)
+    @Param({"64", "512"})
+    public int size; // Côté de la soupe
+    @Param({"B3/S23", "B36/S23"})
+    public String rule; // Règle simulée
+
+    private LifeEngine life; // Moteur de la mesure en cours
+
+    @Setup(Level.Iteration)
+    public void soup() { // Même soupe au début de chaque mesure
+        life = LifeEngine.create(engine, size, size); // Nouveau moteur
+        life.setRule(Rule.parse(rule)); // Règle mesurée
+        BatchRunner.soup(life, size, size, density, SEED); // Soupe reproductible
+    }
+
+    @TearDown(Level.Iteration)
+    public void release() { life.setThreads(1); } // Arrête le pool du moteur parallèle
+
+    @Benchmark
+    public long step() { // Une génération
+        life.step(); // Calcule la génération suivante
+        return life.getGeneration(); // Résultat consommé par JMH
+    }
+}
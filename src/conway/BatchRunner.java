@@ -0,0 +1,146 @@
+package conway;
+
+import java.io.IOException; // Importe l'exception d'entrée/sortie
+import java.lang.management.ManagementFactory; // Importe l'accès aux pools mémoire de la JVM
+import java.lang.management.MemoryPoolMXBean; // Importe la mesure du pic d'occupation d'un pool
+import java.lang.management.MemoryType; // Importe le type de pool (tas ou hors tas)
+import java.nio.file.Paths; // Importe la conversion des noms de fichiers en chemins
+import java.util.Random; // Importe le générateur aléatoire reproductible des soupes
+
+// Mode sans affichage : fait tourner un moteur sur un motif (fichier .rle, .mc ou .cells) ou une soupe aléatoire
+// reproductible, puis affiche le débit (générations/s, cellules traitées/s), le pic de population et le pic
+// d'occupation du tas. Utilisable sur un serveur sans écran pour les tests d'endurance et les mesures de régression.
+//   java -cp out conway.BatchRunner --generations=10000 --soup=42 --size=512x512 --engine=tiled
+//   java -cp out conway.BatchRunner --pattern=acorn.cells --generations=5000 --output=final.rle
+//   java -cp out conway.BatchRunner --soup=7 --generations=100000 --cycles=stop
+//   java -cp out conway.BatchRunner --soup=3 --generations=2000 --rule=B36/S23 --engine=hashlife --step=1024
+//   java -cp out conway.BatchRunner --soup=1 --size=8192x8192 --density=0.4 --generations=1000 --engine=torus --threads=8
+//   java -cp out conway.BatchRunner --pattern=run.ckpt --generations=1000000 --output=run.ckpt --checkpoint-every=10000
+public class BatchRunner { // Point d'entrée de la ligne de commande
+    private static final String USAGE = "usage: conway.BatchRunner --generations=N (--pattern=FILE.rle|.mc|.cells | --soup=SEED"
+            + " [--density=D]) [--size=RxC] [--engine=sparse|tiled|parallel|hashlife|dense|torus] [--rule=B3/S23] [--threads=N] [--step=N] [--cycles=off|skip|stop] [--output=FILE.rle|.mc|.cells|.ckpt [--checkpoint-every=N]]"; // Aide
+
+    private LifeEngine life; // Moteur simulé
+    private String source; // Description de l'état initial (fichier ou soupe)
+    private long generations = -1; // Nombre de générations à calculer (obligatoire)
+    private long stepSize = 1; // Générations par appel à advance (HashLife : puissance de 2 conseillée)
+    private String output; // Fichier (.rle, .mc, .cells ou .ckpt) où écrire l'état final (null : aucun)
+    private String cycles = "off"; // Cycles détectés : ignorés (off), sautés sans calcul (skip) ou fin du calcul (stop)
+    private long checkpointEvery = 0; // Écrit aussi l'état dans output toutes les N générations (0 : jamais)
+
+    public static void main(String[] args) { // Analyse les arguments, lance la mesure, affiche le rapport
+        BatchRunner runner = new BatchRunner(); // Nouvelle exécution
+        try { // Les erreurs d'arguments terminent le programme avec un message d'usage
+            runner.configure(args); // Lit les options et prépare l'état initial
+        } catch (IllegalArgumentException | IOException ex) { // Option invalide ou fichier illisible
+            System.err.println("error: " + ex.getMessage()); // Explique l'erreur
+            System.err.println(USAGE); // Rappelle l'usage
+            System.exit(2); // Code d'erreur des arguments invalides
+        }
+        try { // Calcul puis écriture éventuelle de l'état final
+            runner.run(); // Mesure et rapport
+        } catch (IOException | IllegalArgumentException ex) { // Écriture impossible ou format inconnu
+            System.err.println("error: " + ex.getMessage()); // Explique l'erreur
+            System.exit(1); // Échec de l'exécution
+        }
+    }
+
+    private void configure(String[] args) throws IOException { // Lit les options de la ligne de commande
+        String engine = "sparse", pattern = null, rule = null; // Moteur, fichier de motif et règle imposée
+        long seed = 0; boolean soup = false; // Graine de la soupe
+        int rows = 256, cols = 256, threads = 0; // Taille de la soupe et threads de calcul
+        double density = 0.25; // Densité de la soupe (même valeur que le bouton « Aléatoire »)
+        for (String arg : args) { // Parcourt les options --nom=valeur
+            int eq = arg.indexOf('='); // Séparateur nom/valeur
+            if (!arg.startsWith("--") || eq < 0) throw new IllegalArgumentException("unexpected argument: " + arg); // Forme invalide
+            String name = arg.substring(2, eq), value = arg.substring(eq + 1); // Nom et valeur de l'option
+            switch (name) { // Option reconnue ?
+                case "engine": engine = value; break; // Moteur de simulation
+                case "rule": rule = value; break; // Règle B/S (remplace celle du fichier)
+                case "threads": threads = Integer.parseInt(value); break; // Threads de calcul
+                case "pattern": pattern = value; break; // Fichier de motif
+                case "soup": seed = Long.parseLong(value); soup = true; break; // Soupe aléatoire reproductible
+                case "density": density = Double.parseDouble(value); break; // Densité de la soupe
+                case "generations": generations = Long.parseLong(value); break; // Générations à calculer
+                case "step": stepSize = Long.parseLong(value); break; // Générations par appel
+                case "output": output = value; break; // Fichier de l'état final
+                case "cycles": cycles = value; break; // Traitement des états périodiques
+                case "checkpoint-every": checkpointEvery = Long.parseLong(value); break; // Sauvegardes intermédiaires
+                case "size": { // Taille de la soupe RxC (et du monde des moteurs dense et torus)
+                    int x = value.indexOf('x'); // Séparateur
+                    if (x < 0) throw new IllegalArgumentException("size must be ROWSxCOLS: " + value); // Format invalide
+                    rows = Integer.parseInt(value.substring(0, x)); cols = Integer.parseInt(value.substring(x + 1)); // Dimensions
+                    break;
+                }
+                default: throw new IllegalArgumentException("unknown option: --" + name); // Option inconnue
+            }
+        }
+        if (generations < 0) throw new IllegalArgumentException("--generations is required"); // Option obligatoire
+        if (stepSize < 1) throw new IllegalArgumentException("--step must be >= 1"); // Pas invalide
+        if (checkpointEvery < 0 || (checkpointEvery > 0 && output == null)) throw new IllegalArgumentException("--checkpoint-every requires --output"); // Sauvegarde sans fichier
+        if ((pattern == null) == !soup) throw new IllegalArgumentException("exactly one of --pattern or --soup is required"); // État initial
+        if (!cycles.equals("off") && !cycles.equals("skip") && !cycles.equals("stop")) throw new IllegalArgumentException("--cycles must be off, skip or stop"); // Valeur invalide
+        life = LifeEngine.create(engine, rows, cols); // Moteur demandé (lève IllegalArgumentException si inconnu)
+        life.setCycleDetection(!cycles.equals("off")); // Détection des cycles (moteur clairsemé uniquement)
+        if (threads > 0) life.setThreads(threads); // Threads de calcul demandés
+        if (soup) { // Soupe aléatoire : même graine, même soupe, quel que soit le moteur
+            soup(life, rows, cols, density, seed); // Remplit la zone centrée
+            source = "soup seed=" + seed + " " + rows + "x" + cols + " density=" + density; // Description
+        } else { // Motif lu dans un fichier
+            PatternIO.load(Paths.get(pattern), life); // Lecture en continu, format d'après l'extension
+            source = pattern; // Description
+        }
+        if (rule != null) life.setRule(Rule.parse(rule)); // Règle imposée (lève IllegalArgumentException si invalide)
+    }
+
+    static void soup(LifeEngine life, int rows, int cols, double density, long seed) { // Soupe reproductible centrée en (0,0)
+        Random rnd = new Random(seed); // Générateur déterministe
+        int r0 = -rows / 2, c0 = -cols / 2; // Coin de la zone (centrée autour de 0)
+        for (int r = 0; r < rows; r++) { // Parcourt chaque ligne de la zone
+            for (int c = 0; c < cols; c++) { // Parcourt chaque colonne de la zone
+                if (rnd.nextDouble() < density) life.setAlive(r0 + r, c0 + c, true); // Avec proba=density, cellule vivante
+            }
+        }
+    }
+
+    private void run() throws IOException { // Calcule les générations en mesurant le débit, puis affiche le rapport
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) pool.resetPeakUsage(); // Repart des pics actuels
+        long initial = life.getPopulation(), peak = initial, population = initial; // Populations suivies
+        double cellUpdates = 0; // Cellules vivantes traitées (population x générations avancées)
+        long nanos = 0; // Temps passé dans le moteur uniquement (les comptages de population sont exclus)
+        long done = 0; // Générations effectuées
+        boolean stop = cycles.equals("stop"); // Fin du calcul sur un cycle ?
+        while (done < generations && !(stop && life.getCycle() != null)) { // Jusqu'au nombre demandé (ou jusqu'à un cycle)
+            long n = life.getCycle() != null ? generations - done : Math.min(stepSize, generations - done); // Cycle connu : tout d'un coup
+            long t0 = System.nanoTime(); // Début de la mesure
+            life.advance(n); // Calcule n générations
+            nanos += System.nanoTime() - t0; // Cumule le temps de calcul
+            cellUpdates += (double) population * n; // Cellules traitées (population au début de l'appel)
+            population = life.getPopulation(); // Population après l'appel
+            peak = Math.max(peak, population); // Pic de population
+            done += n; // Générations effectuées
+            if (checkpointEvery > 0 && done / checkpointEvery != (done - n) / checkpointEvery && done < generations) // Multiple franchi
+                PatternIO.save(life, Paths.get(output)); // Sauvegarde intermédiaire (hors mesure)
+        }
+        long heapPeak = 0; // Pic d'occupation du tas (somme des pics de chaque pool)
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) { // Pour chaque pool mémoire
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) heapPeak += pool.getPeakUsage().getUsed(); // Tas
+        }
+        double seconds = Math.max(nanos, 1) / 1e9; // Durée de calcul en secondes
+        System.out.println("engine:       " + life.getClass().getSimpleName() + " (" + life.getThreads() + " thread(s)" // Moteur
+                + (life.isBounded() ? ", world " + life.getRows() + "x" + life.getCols() : "") + ")"); // Monde fini
+        System.out.println("source:       " + source); // État initial
+        System.out.println("rule:         " + life.getRule()); // Règle simulée
+        System.out.printf("generations:  %d in %.3f s -> %.1f gen/s%n", done, seconds, done / seconds); // Débit
+        System.out.printf("cell updates: %.4g -> %.4g cells/s%n", cellUpdates, cellUpdates / seconds); // Cellules traitées
+        System.out.println("population:   initial " + initial + ", final " + population + ", peak " + peak); // Populations
+        System.out.printf("heap peak:    %.1f MB%n", heapPeak / (1024.0 * 1024.0)); // Pic mémoire
+        Cycle cycle = life.getCycle(); // Cycle détecté (si la détection est active)
+        if (cycle != null) System.out.println("cycle:        period " + cycle.getPeriod() + ", shift (" + cycle.getRowShift() + ","
+                + cycle.getColShift() + ") since generation " + cycle.getStart()); // État périodique
+        if (output != null) { // Écriture de l'état final demandée
+            PatternIO.save(life, Paths.get(output)); // Écriture en continu, format d'après l'extension
+            System.out.println("final state:  " + output); // Confirme l'écriture
+        }
+    }
+} // Fin de la classe BatchRunner
@@ -0,0 +1,38 @@
+package conway;
+
+import java.util.Arrays; // Importe Arrays pour agrandir le journal
+
+// Journal des cellules dont l'état a changé dans un moteur entre deux lectures (naissances, morts, modifications),
+// pour que l'historique enregistre chaque pas sans comparer des états complets. Une cellule changée plusieurs fois
+// figure plusieurs fois : l'historique ne fait que réinverser les cellules, seule la parité compte. Au-delà de la
+// limite, le détail est abandonné et la lecture suivante signale des changements inconnus.
+final class CellLog { // Suite de clés (r,c), vidée à chaque lecture
+    private final int limit; // Nombre maximal de cellules entre deux lectures
+    private long[] cells = new long[256]; // Cellules changées, encodées en clé long (r,c)
+    private int size; // Nombre de cellules notées
+    private boolean lost; // Limite dépassée : les changements sont inconnus
+
+    CellLog(int limit) { // Journal d'au plus limit cellules entre deux lectures
+        if (limit <= 0) throw new IllegalArgumentException("limit must be > 0"); // Validation du paramètre
+        this.limit = limit; // Mémorise la limite
+    }
+
+    void add(int r, int c) { // La cellule (r,c) a changé d'état
+        if (lost) return; // Détail déjà abandonné
+        if (size == limit) { lost = true; size = 0; cells = new long[256]; return; } // Trop de changements : libère le tampon
+        if (size == cells.length) cells = Arrays.copyOf(cells, (int) Math.min(limit, 2L * size)); // Agrandit le tampon
+        cells[size++] = (((long) r) << 32) ^ (((long) c) & 0xffffffffL); // Même encodage que les cellules des moteurs
+    }
+
+    void addBits(int r, int c0, long bits) { // Les cellules (r, c0+i) des bits i posés ont changé (lignes bit-packées)
+        for (; bits != 0; bits &= bits - 1) add(r, c0 + Long.numberOfTrailingZeros(bits)); // Chaque bit posé
+    }
+
+    boolean drain(LifeEngine.CellVisitor visitor) { // Transmet les cellules notées puis repart de zéro
+        boolean known = !lost; // false : trop de changements pour les détailler
+        if (known) for (int i = 0; i < size; i++) visitor.visit((int) (cells[i] >> 32), (int) cells[i]); // Chaque cellule
+        size = 0; // Repart d'un journal vide
+        lost = false; // L'état transmis sert de nouvelle référence
+        return known; // Cellules connues ou non
+    }
+} // Fin de la classe CellLog
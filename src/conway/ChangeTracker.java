@@ -0,0 +1,49 @@
+package conway;
+
+// Accumule les zones modifiées d'un moteur entre deux photographies, pour que l'affichage ne redessine
+// que ce qui a changé. Le monde est découpé en blocs de 16x16 cellules ; au-delà de MAX_BLOCKS blocs
+// distincts, le détail est abandonné et tout est signalé comme modifié (l'affichage redessine alors entièrement).
+final class ChangeTracker { // Ensemble de blocs modifiés, vidé à chaque lecture
+    static final int SHIFT = 4; // log2 du côté d'un bloc en cellules
+    private static final int MAX_BLOCKS = 4096; // Nombre de blocs au-delà duquel le détail ne vaut plus la peine
+
+    private final LongHashSet blocks = new LongHashSet(); // Blocs modifiés, encodés en clé long (br,bc)
+    private boolean all = true; // Tout a pu changer (état initial : rien n'a encore été transmis)
+
+    void mark(int r, int c) { markBlock(r >> SHIFT, c >> SHIFT); } // La cellule (r,c) a changé
+
+    void markRect(int r0, int c0, int r1, int c1) { // Les cellules du rectangle [r0,r1)x[c0,c1) ont pu changer
+        if (all || r1 <= r0 || c1 <= c0) return; // Déjà tout modifié, ou rectangle vide
+        int br0 = r0 >> SHIFT, br1 = (r1 - 1) >> SHIFT; // Lignes de blocs concernées (bornes incluses)
+        int bc0 = c0 >> SHIFT, bc1 = (c1 - 1) >> SHIFT; // Colonnes de blocs concernées
+        if ((long) (br1 - br0 + 1) * (bc1 - bc0 + 1) > MAX_BLOCKS) { markAll(); return; } // Trop grand : tout
+        for (int br = br0; br <= br1; br++) for (int bc = bc0; bc <= bc1; bc++) markBlock(br, bc); // Chaque bloc
+    }
+
+    void markAll() { // Tout a pu changer (effacement, chargement, ...)
+        all = true; // Le détail n'a plus d'intérêt
+        blocks.clear(); // Libère les blocs accumulés
+    }
+
+    private void markBlock(int br, int bc) { // Ajoute un bloc à l'ensemble
+        if (all) return; // Déjà tout modifié
+        blocks.add(((long) br << 32) ^ (bc & 0xffffffffL)); // Même encodage que les cellules
+        if (blocks.size() > MAX_BLOCKS) markAll(); // Trop de blocs : on abandonne le détail
+    }
+
+    boolean drain(LifeEngine.RegionVisitor visitor) { // Transmet les blocs modifiés puis repart de zéro
+        boolean known = !all; // false : tout a pu changer
+        if (known) { // Transmet chaque bloc sous forme de rectangle
+            for (int s = 0, n = blocks.slots(); s < n; s++) { // Pour chaque case de l'ensemble
+                if (!blocks.used(s)) continue; // Ignore les cases vides
+                long k = blocks.keyAt(s); // Clé du bloc
+                int r0 = (int) (k >> 32) << SHIFT, c0 = (int) k << SHIFT; // Coin du bloc en cellules
+                visitor.visit(r0, c0, (int) Math.min(Integer.MAX_VALUE, r0 + (1L << SHIFT)), // Bornes exclues
+                        (int) Math.min(Integer.MAX_VALUE, c0 + (1L << SHIFT))); // (coupées au bord du monde)
+            }
+        }
+        blocks.clear(); // Repart d'un ensemble vide
+        all = false; // L'état transmis sert de nouvelle référence
+        return known; // Zones connues ou non
+    }
+} // Fin de la classe ChangeTracker
@@ -0,0 +1,122 @@
+package conway;
+
+import java.io.BufferedInputStream; // Importe la lecture tamponnée du flux de sauvegarde
+import java.io.BufferedOutputStream; // Importe l'écriture tamponnée du flux de sauvegarde
+import java.io.EOFException; // Importe l'erreur de fichier tronqué
+import java.io.IOException; // Importe l'exception d'entrée/sortie
+import java.io.InputStream; // Importe la source d'octets d'une sauvegarde
+import java.io.OutputStream; // Importe la destination d'octets d'une sauvegarde
+import java.util.zip.Deflater; // Importe le niveau de compression
+import java.util.zip.DeflaterOutputStream; // Importe la compression optionnelle du corps
+import java.util.zip.Inflater; // Importe le décompresseur du corps
+import java.util.zip.InflaterInputStream; // Importe la décompression du corps
+
+// Sauvegarde binaire compacte de l'état d'un moteur (extension .ckpt), pour interrompre et reprendre un long calcul.
+// En-tête : « LIFE », version (1 octet), options (1 octet, bit 0 = corps compressé par Deflate), puis la règle en
+// notation B/S (1 octet de longueur + ASCII) ; la version 1, sans règle, est relue comme une sauvegarde de Conway.
+// Corps : génération, nombre de cellules, puis les cellules dans l'ordre de lecture (ligne puis colonne), chacune
+// codée en varint par rapport à la précédente : écart de ligne, puis colonne absolue (nouvelle ligne) ou écart
+// de colonne - 1 (même ligne). Un motif dense coûte ainsi environ 2 octets par cellule avant compression.
+// L'écriture parcourt le monde dans l'ordre de lecture comme RleFormat (PatternIO.forEachAliveInOrder).
+final class Checkpoint { // Utilitaires statiques, aucune instance
+    private static final byte[] MAGIC = { 'L', 'I', 'F', 'E' }; // Signature du format
+    private static final int VERSION = 2; // Version du format (2 : règle dans l'en-tête)
+    private static final int COMPRESSED = 1; // Option : corps compressé
+    private static final int BUFFER_SIZE = 1 << 16; // Taille des tampons (64 Ko)
+
+    private Checkpoint() { } // Classe non instanciable
+
+    static void write(LifeEngine life, OutputStream os, boolean compress) throws IOException { // Sauvegarde l'état du moteur
+        os.write(MAGIC); os.write(VERSION); os.write(compress ? COMPRESSED : 0); // En-tête (jamais compressé)
+        String rule = life.getRule().toString(); // Notation canonique (au plus 22 caractères ASCII)
+        os.write(rule.length()); for (int i = 0; i < rule.length(); i++) os.write(rule.charAt(i)); // Règle
+        Deflater deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null; // Compression rapide : la sauvegarde doit rester brève
+        DeflaterOutputStream zip = compress ? new DeflaterOutputStream(os, deflater, BUFFER_SIZE) : null; // Couche de compression
+        OutputStream out = new BufferedOutputStream(compress ? zip : os, BUFFER_SIZE); // Corps
+        try {
+            long[] box = { Long.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, 0 }; // Rectangle englobant et nombre de cellules
+            life.forEachAlive((r, c) -> { // Premier passage : étendue et nombre de cellules, sans rien stocker
+                box[0] = Math.min(box[0], r); box[1] = Math.min(box[1], c); // Coin haut-gauche
+                box[2] = Math.max(box[2], r); box[3] = Math.max(box[3], c); // Coin bas-droit
+                box[4]++; // Une cellule de plus
+            });
+            writeVarLong(out, life.getGeneration()); // Génération
+            writeVarLong(out, box[4]); // Nombre de cellules
+            PatternIO.forEachAliveInOrder(life, box[0], box[1], box[2], box[3], box[4], new Encoder(out)); // Cellules dans l'ordre de lecture
+            out.flush(); // Vide le tampon
+            if (zip != null) zip.finish(); // Termine le flux compressé sans fermer le fichier
+        } finally {
+            if (deflater != null) deflater.end(); // Libère la mémoire native du compresseur
+        }
+    }
+
+    static void read(InputStream is, LifeEngine life) throws IOException { // Remplace l'état du moteur par la sauvegarde
+        for (byte m : MAGIC) if (is.read() != m) throw new IllegalArgumentException("not a checkpoint file"); // Signature
+        int version = is.read(), flags = is.read(); // Version et options
+        if (version != 1 && version != VERSION) throw new IllegalArgumentException("unsupported checkpoint version: " + version); // Version inconnue
+        if (flags < 0 || (flags & ~COMPRESSED) != 0) throw new IllegalArgumentException("invalid checkpoint flags: " + flags); // Options inconnues
+        Rule rule = Rule.CONWAY; // Version 1 : toujours Conway
+        if (version >= 2) { // Règle enregistrée
+            int len = is.read(); // Longueur de la notation
+            if (len < 0) throw new EOFException("truncated checkpoint"); // Fichier tronqué
+            StringBuilder sb = new StringBuilder(len); // Notation
+            for (int i = 0; i < len; i++) { int ch = is.read(); if (ch < 0) throw new EOFException("truncated checkpoint"); sb.append((char) ch); } // Caractères
+            rule = Rule.parse(sb.toString()); // Règle de la sauvegarde
+        }
+        Inflater inflater = (flags & COMPRESSED) != 0 ? new Inflater() : null; // Décompresseur éventuel
+        try {
+            InputStream in = new BufferedInputStream(inflater != null ? new InflaterInputStream(is, inflater, BUFFER_SIZE) : is, BUFFER_SIZE); // Corps
+            long generation = readVarLong(in); // Génération sauvegardée
+            long count = readVarLong(in); // Nombre de cellules
+            life.clear(); // La sauvegarde remplace le monde
+            life.setRule(rule); // ... et sa règle
+            long r = 0, c = 0; // Cellule précédente
+            for (long i = 0; i < count; i++) { // Chaque cellule
+                long dr = readVarLong(in); // Écart de ligne (première cellule : ligne absolue en zigzag)
+                if (i == 0) { r = unzigzag(dr); c = unzigzag(readVarLong(in)); } // Première cellule : position absolue
+                else if (dr == 0) c += readVarLong(in) + 1; // Même ligne : écart de colonne
+                else { r += dr; c = unzigzag(readVarLong(in)); } // Nouvelle ligne : colonne absolue
+                if (r != (int) r || c != (int) c) throw new IllegalArgumentException("checkpoint exceeds engine coordinates"); // Hors des int
+                life.setAlive((int) r, (int) c, true); // Fait naître la cellule
+            }
+            life.setGeneration(generation); // Reprend à la génération sauvegardée
+        } finally {
+            if (inflater != null) inflater.end(); // Libère la mémoire native du décompresseur
+        }
+    }
+
+    private static final class Encoder implements PatternIO.OrderedCellVisitor { // Encode des cellules triées en écarts varint
+        private final OutputStream out; // Destination
+        private boolean first = true; // Aucune cellule encore écrite ?
+        private long row, col; // Dernière cellule écrite
+
+        Encoder(OutputStream out) { this.out = out; } // Constructeur
+
+        @Override
+        public void visit(long r, long c) throws IOException { // Reçoit une cellule vivante (ordre de lecture)
+            if (first) { writeVarLong(out, zigzag(r)); writeVarLong(out, zigzag(c)); first = false; } // Position absolue
+            else if (r == row) { writeVarLong(out, 0); writeVarLong(out, c - col - 1); } // Même ligne
+            else { writeVarLong(out, r - row); writeVarLong(out, zigzag(c)); } // Nouvelle ligne
+            row = r; col = c; // Cellule précédente
+        }
+    }
+
+    static void writeVarLong(OutputStream out, long v) throws IOException { // Entier positif en groupes de 7 bits (LEB128)
+        while ((v & ~0x7fL) != 0) { out.write((int) (v & 0x7f) | 0x80); v >>>= 7; } // Groupes suivis d'un autre
+        out.write((int) v); // Dernier groupe
+    }
+
+    static long readVarLong(InputStream in) throws IOException { // Inverse de writeVarLong
+        long v = 0; // Valeur lue
+        for (int shift = 0; shift < 64; shift += 7) { // Au plus 10 groupes
+            int b = in.read(); // Groupe suivant
+            if (b < 0) throw new EOFException("truncated checkpoint"); // Fichier tronqué
+            v |= (long) (b & 0x7f) << shift; // Ajoute le groupe
+            if ((b & 0x80) == 0) return v; // Dernier groupe
+        }
+        throw new IllegalArgumentException("invalid varint in checkpoint"); // Plus de 10 groupes
+    }
+
+    static long zigzag(long v) { return (v << 1) ^ (v >> 63); } // Signé -> positif (petits en valeur absolue = courts)
+    static long unzigzag(long v) { return (v >>> 1) ^ -(v & 1); } // Inverse de zigzag
+} // Fin de la classe Checkpoint
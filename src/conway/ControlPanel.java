@@ -0,0 +1,239 @@
+package conway;
+
+import javax.swing.*; // Importe les composants Swing (JPanel, JButton, JLabel, Timer, etc.)
+import java.awt.*; // Importe AWT (layout, contraintes, etc.)
+import java.awt.event.ActionEvent; // Importe ActionEvent utilisé par les actions et le Timer
+import java.io.File; // Importe le fichier choisi pour l'import/export des motifs
+import java.io.IOException; // Importe l'exception de lecture/écriture des motifs
+import javax.swing.filechooser.FileNameExtensionFilter; // Importe le filtre des formats de motifs
+
+public class ControlPanel extends JPanel { // Panneau contenant les contrôles de la simulation
+    private static final int REFRESH_MS = 1000 / 60; // Période de rafraîchissement de l'affichage (~60 images/s)
+
+    private final Simulation sim; // Thread de simulation (seul à modifier le moteur)
+    private final LifeEngine life; // Moteur simulé, consulté uniquement pour ses capacités (pas, threads)
+    private final LifePanel lifePanel; // Référence au panneau d'affichage pour demander des repaints
+    private final Timer timer; // Minuteur d'affichage : relaie les nouvelles photographies vers l'écran
+    private final JButton playPauseBtn = new JButton("Démarrer"); // Bouton démarrer/pause
+    private final JButton stepBtn = new JButton("Pas"); // Bouton pour avancer d'un pas
+    private final JButton clearBtn = new JButton("Effacer"); // Bouton pour effacer la grille
+    private final JButton randomBtn = new JButton("Aléatoire"); // Bouton pour remplir aléatoirement
+    private final JButton openBtn = new JButton("Ouvrir…"); // Bouton pour importer un motif (.rle, .mc, .cells)
+    private final JButton saveBtn = new JButton("Enregistrer…"); // Bouton pour exporter l'état courant
+    private final JButton rewindBtn = new JButton("Reculer"); // Bouton pour revenir en arrière dans l'historique
+    private final JSpinner rewindSpinner = new JSpinner(new SpinnerNumberModel(1, 1, 1_000_000, 1)); // Nombre de pas à annuler
+    private final JFileChooser chooser = new JFileChooser(); // Sélecteur de fichiers partagé (garde le dernier dossier)
+    private final JSlider speedSlider = new JSlider(1, 1000, 10); // Curseur de vitesse (itérations par seconde)
+    private final JCheckBox unlimitedBox = new JCheckBox("Illimitée"); // Vitesse maximale (aucune attente entre deux pas)
+    private final JLabel genLabel = new JLabel("Génération: 0"); // Étiquette affichant le numéro de génération
+    private final JComboBox<String> stepSizeBox = new JComboBox<>(); // Choix du pas (2^k générations) pour les moteurs rapides
+    private final JSpinner threadsSpinner = new JSpinner(); // Nombre de threads de calcul (moteurs parallèles)
+    private final JLabel perfLabel = new JLabel(" "); // Temps moyen d'un pas et accélération par rapport à 1 thread
+    private final JCheckBox stopOnCycleBox = new JCheckBox("Arrêt sur cycle"); // Pause automatique sur un état périodique
+    private final JLabel cycleLabel = new JLabel(" "); // Cycle détecté (période, déplacement)
+    private final JComboBox<String> ruleBox = new JComboBox<>(new String[] { // Règle simulée : préréglages ou saisie libre
+            "B3/S23 (Conway)", "B36/S23 (HighLife)", "B2/S (Seeds)", "B3678/S34678 (Day & Night)" });
+    private Rule shownRule; // Dernière règle affichée dans ruleBox
+    private final JCheckBox metricsBox = new JCheckBox("Mesures"); // Incrustation des mesures (active ou arrête leur collecte)
+    private double sequentialStepMs = 0; // Dernière moyenne mesurée avec 1 thread (référence de l'accélération)
+    private WorldSnapshot shown; // Dernière photographie transmise au panneau
+
+    public ControlPanel(Simulation sim, LifePanel lifePanel) { // Constructeur du panneau de contrôle
+        this.sim = sim; // Stocke la référence de la simulation
+        this.life = sim.getEngine(); // Stocke la référence du modèle
+        this.lifePanel = lifePanel; // Stocke la référence du panneau d'affichage
+        setLayout(new GridBagLayout()); // Utilise GridBagLayout pour organiser les composants
+        GridBagConstraints gc = new GridBagConstraints(); // Contraintes de placement pour GridBagLayout
+        gc.insets = new Insets(4,4,4,4); // Marges autour des composants
+        gc.gridy = 0; // Ligne initiale pour l'ajout des composants
+
+        // Le calcul ne se fait plus sur l'EDT : ce timer ne fait qu'afficher la dernière photographie publiée
+        this.timer = new Timer(REFRESH_MS, (ActionEvent e) -> refresh()); // Crée le timer de rafraîchissement
+        sim.setTargetRate(speedSlider.getValue()); // Vitesse initiale de la simulation
+
+        playPauseBtn.addActionListener(e -> togglePlay()); // Associe le bouton au basculement démarrer/pause
+        stepBtn.addActionListener(e -> { // Action du bouton "Pas"
+            if (sim.isRunning()) return; // Empêche l'action si la simulation tourne déjà
+            sim.step(); // Avance d'un pas (une génération ou 2^k avec HashLife) sur le thread de simulation
+        });
+        clearBtn.addActionListener(e -> sim.submit(LifeEngine::clear)); // Action du bouton "Effacer" : vide la grille
+        randomBtn.addActionListener(e -> { // Action du bouton "Aléatoire"
+            double density = 0.25; // 25% de cellules vivantes en moyenne
+            sim.submit(l -> l.randomize(density)); // Remplit aléatoirement la zone par défaut
+        });
+        chooser.setFileFilter(new FileNameExtensionFilter("Motifs (RLE, Macrocell, plaintext, sauvegarde)", "rle", "mc", "cells", "ckpt")); // Formats reconnus
+        openBtn.addActionListener(e -> openPattern()); // Action du bouton "Ouvrir"
+        saveBtn.addActionListener(e -> savePattern()); // Action du bouton "Enregistrer"
+        stopOnCycleBox.addActionListener(e -> sim.setStopOnCycle(stopOnCycleBox.isSelected())); // Transmet à la simulation
+        ruleBox.setEditable(true); // Toute règle B/S peut être saisie
+        shownRule = sim.getRule(); // Règle initiale du moteur
+        ruleBox.setSelectedItem(label(shownRule)); // Affichée avant de brancher l'écouteur
+        ruleBox.addActionListener(e -> changeRule()); // Applique la règle choisie ou saisie
+        metricsBox.addActionListener(e -> { // Affiche ou masque les mesures
+            boolean on = metricsBox.isSelected(); // Nouvel état
+            sim.getMetrics().setEnabled(on); // La collecte suit la case (pas, naissances, rectangle englobant), comme l'attribut JMX Enabled
+            lifePanel.setMetricsOverlay(on); // Incrustation sur la grille
+        });
+        rewindBtn.addActionListener(e -> { // Action du bouton "Reculer"
+            if (sim.isRunning()) return; // Empêche l'action si la simulation tourne
+            sim.rewind((Integer) rewindSpinner.getValue()); // Annule les derniers pas sans recalcul
+        });
+        speedSlider.setPaintTicks(true); // Affiche les graduations sur le slider
+        speedSlider.setPaintLabels(true); // Affiche les labels de valeurs
+        speedSlider.setMajorTickSpacing(250); // Pas majeur de 250
+        speedSlider.setMinorTickSpacing(50); // Pas mineur de 50
+        speedSlider.addChangeListener(e -> { // Réagit au changement de vitesse
+            if (!unlimitedBox.isSelected()) sim.setTargetRate(speedSlider.getValue()); // Itérations par seconde souhaitées
+        });
+        unlimitedBox.addActionListener(e -> { // Bascule la vitesse illimitée
+            boolean unlimited = unlimitedBox.isSelected(); // Nouvel état de la case
+            speedSlider.setEnabled(!unlimited); // Le curseur n'a plus d'effet en vitesse illimitée
+            sim.setTargetRate(unlimited ? Simulation.UNLIMITED : speedSlider.getValue()); // Transmet à la simulation
+        });
+
+        for (int k = 0; k <= life.maxStepLog(); k++) stepSizeBox.addItem(k == 0 ? "1" : "2^" + k); // Pas proposés
+        stepSizeBox.addActionListener(e -> { // Met à jour le pas choisi
+            sim.setStepSize(1L << stepSizeBox.getSelectedIndex()); // 2^k générations par itération
+            sim.resetTiming(); // Repart d'une nouvelle mesure
+        });
+        threadsSpinner.setModel(new SpinnerNumberModel(life.getThreads(), 1, Math.max(1, life.maxThreads()), 1)); // 1..nombre de cœurs
+        threadsSpinner.addChangeListener(e -> { // Réagit au changement du nombre de threads
+            int threads = (Integer) threadsSpinner.getValue(); // Nombre de threads choisi
+            sim.submit(l -> l.setThreads(threads)); // Reconfigure le moteur entre deux générations
+            sim.resetTiming(); // Repart d'une nouvelle mesure
+        });
+
+        gc.gridx = 0; add(playPauseBtn, gc); // Colonne 0 : bouton démarrer/pause
+        gc.gridx = 1; add(stepBtn, gc); // Colonne 1 : bouton pas-à-pas
+        gc.gridx = 2; add(clearBtn, gc); // Colonne 2 : bouton effacer
+        gc.gridx = 3; add(randomBtn, gc); // Colonne 3 : bouton aléatoire
+        gc.gridx = 4; add(new JLabel("Vitesse (it/s):"), gc); // Colonne 4 : étiquette vitesse
+        gc.gridx = 5; gc.weightx = 1; gc.fill = GridBagConstraints.HORIZONTAL; add(speedSlider, gc); // Colonne 5 : le slider s'étire
+        gc.gridx = 6; gc.weightx = 0; gc.fill = GridBagConstraints.NONE; add(unlimitedBox, gc); // Colonne 6 : vitesse illimitée
+        gc.gridx = 7; add(genLabel, gc); // Colonne 7 : label de génération
+        gc.gridx = 8; add(openBtn, gc); // Colonne 8 : import d'un motif
+        gc.gridx = 9; add(saveBtn, gc); // Colonne 9 : export de l'état courant
+        gc.gridy = 1; // Seconde ligne : réglages propres au moteur et mesure de performance
+        if (life.maxStepLog() > 0) { // Le choix du pas n'a de sens que pour un moteur capable de sauter 2^k générations
+            gc.gridx = 0; add(new JLabel("Pas (gén.):"), gc); // Colonne 0 : étiquette du pas
+            gc.gridx = 1; add(stepSizeBox, gc); // Colonne 1 : liste des pas 1, 2, 4, ... 2^k
+        }
+        if (life.maxThreads() > 1) { // Le réglage des threads n'a de sens que pour un moteur parallèle
+            gc.gridx = 2; add(new JLabel("Threads:"), gc); // Colonne 2 : étiquette des threads
+            gc.gridx = 3; add(threadsSpinner, gc); // Colonne 3 : nombre de threads
+        }
+        gc.gridx = 4; gc.gridwidth = 4; gc.anchor = GridBagConstraints.WEST; add(perfLabel, gc); // Colonnes 4-7 : temps par pas
+        gc.gridwidth = 1; gc.anchor = GridBagConstraints.CENTER; // Contraintes par défaut
+        gc.gridx = 8; add(rewindSpinner, gc); // Colonne 8 : nombre de pas à annuler
+        gc.gridx = 9; add(rewindBtn, gc); // Colonne 9 : retour en arrière
+        gc.gridy = 2; // Troisième ligne : détection des cycles
+        gc.gridx = 0; gc.gridwidth = 2; add(stopOnCycleBox, gc); // Colonnes 0-1 : pause automatique
+        gc.gridx = 2; gc.gridwidth = 4; gc.anchor = GridBagConstraints.WEST; add(cycleLabel, gc); // Colonnes 2-5 : cycle détecté
+        gc.gridx = 6; gc.gridwidth = 2; add(metricsBox, gc); // Colonnes 6-7 : incrustation des mesures
+        gc.gridwidth = 1; gc.anchor = GridBagConstraints.CENTER; // Contraintes par défaut
+        gc.gridx = 8; add(new JLabel("Règle:"), gc); // Colonne 8 : étiquette de la règle
+        gc.gridx = 9; add(ruleBox, gc); // Colonne 9 : règle simulée
+
+        timer.start(); // L'affichage suit la simulation en permanence (édition comprise)
+    } // Fin du constructeur
+
+    private void refresh() { // Relaie la dernière photographie publiée vers l'écran (EDT)
+        WorldSnapshot s = sim.getSnapshot(); // Photographie la plus récente
+        if (s != shown) { // Nouvelle génération ou modification
+            shown = s; // Mémorise la photographie affichée
+            genLabel.setText("Génération: " + s.getGeneration()); // Met à jour le compteur affiché
+            lifePanel.showSnapshot(s); // Redessine les zones modifiées (ou tout si elles sont inconnues)
+        }
+        rewindBtn.setToolTipText(sim.getHistorySize() + " pas en mémoire"); // Profondeur de l'historique
+        lifePanel.repaintOverlay(); // Valeurs à jour dans l'incrustation (sans effet si masquée)
+        Cycle cycle = sim.getCycle(); // Cycle détecté par le moteur
+        cycleLabel.setText(cycle == null ? " " : "Cycle : " + cycle); // Période et déplacement
+        if (!sim.isRunning() && playPauseBtn.getText().equals("Pause")) togglePlayButton(false); // Arrêt automatique sur un cycle
+        Rule rule = sim.getRule(); // Règle du moteur (un fichier ouvert peut l'avoir changée)
+        if (!rule.equals(shownRule)) { shownRule = rule; ruleBox.setSelectedItem(label(rule)); } // Affiche la nouvelle règle
+        double avg = sim.getAverageStepMillis(); // Temps moyen d'un pas mesuré par la simulation
+        if (avg <= 0) return; // Aucune mesure pour l'instant
+        int threads = (Integer) threadsSpinner.getValue(); // Réglage courant
+        if (threads == 1) sequentialStepMs = avg; // Référence séquentielle
+        String text = String.format("%.2f ms/pas", avg); // Temps moyen d'un pas
+        if (threads > 1 && sequentialStepMs > 0) text += String.format(" (x%.1f vs 1 thread)", sequentialStepMs / avg); // Accélération
+        perfLabel.setText(text); // Affiche la mesure
+    }
+
+    // Importe un motif choisi par l'utilisateur. Un motif (.rle, .mc, .cells) est ajouté au monde courant et peut changer
+    // la règle ; une sauvegarde .ckpt remplace le monde, sa règle et sa génération. La lecture est en continu : si le
+    // fichier est invalide, les cellules posées avant l'erreur restent dans le monde (le message le rappelle).
+    private void openPattern() {
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return; // Annulé
+        File file = chooser.getSelectedFile(); // Fichier choisi
+        sim.submit(l -> { // La lecture pose les cellules : elle se fait sur le thread de simulation
+            try {
+                PatternIO.load(file.toPath(), l); // Lecture en continu selon l'extension
+            } catch (IOException | IllegalArgumentException ex) { // Fichier illisible ou format invalide
+                showError("Import incomplet", new IllegalArgumentException(ex.getMessage() // Prévient l'utilisateur
+                        + "\nLes cellules lues avant l'erreur ont pu être ajoutées au monde.")); // Import partiel
+            }
+        });
+    }
+
+    private void savePattern() { // Exporte l'état courant dans un fichier choisi par l'utilisateur
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return; // Annulé
+        File file = chooser.getSelectedFile(); // Fichier choisi
+        File target = file.getName().indexOf('.') < 0 ? new File(file.getPath() + ".rle") : file; // RLE par défaut
+        sim.submit(l -> { // L'écriture lit le moteur : elle se fait entre deux générations
+            try {
+                PatternIO.save(l, target.toPath()); // Écriture en continu selon l'extension
+            } catch (IOException | IllegalArgumentException ex) { // Écriture impossible ou format inconnu
+                showError("Export impossible", ex); // Prévient l'utilisateur
+            }
+        });
+    }
+
+    private void changeRule() { // Applique la règle sélectionnée dans la liste ou saisie
+        String text = String.valueOf(ruleBox.getSelectedItem()); // Préréglage « B36/S23 (HighLife) » ou saisie libre
+        int paren = text.indexOf('('); // Nom du préréglage éventuel
+        try {
+            Rule rule = Rule.parse(paren >= 0 ? text.substring(0, paren) : text); // Notation seule
+            if (rule.equals(shownRule)) return; // Déjà la règle simulée (mise à jour de l'affichage)
+            sim.submit(l -> l.setRule(rule)); // Changement entre deux générations
+        } catch (IllegalArgumentException ex) { // Notation invalide ou règle B0
+            JOptionPane.showMessageDialog(this, ex.getMessage(), "Règle invalide", JOptionPane.ERROR_MESSAGE); // Prévient l'utilisateur
+            ruleBox.setSelectedItem(label(shownRule)); // Revient à la règle simulée
+        }
+    }
+
+    private String label(Rule rule) { // Texte affiché pour une règle : le préréglage s'il existe
+        String notation = rule.toString(); // Notation canonique
+        for (int i = 0; i < ruleBox.getItemCount(); i++) { // Préréglages
+            String item = ruleBox.getItemAt(i); // « B36/S23 (HighLife) »
+            if (item.startsWith(notation + " ")) return item; // Même règle
+        }
+        return notation; // Règle saisie
+    }
+
+    private void showError(String title, Exception ex) { // Affiche une erreur depuis le thread de simulation
+        SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(this, ex.getMessage(), title, JOptionPane.ERROR_MESSAGE)); // Sur l'EDT
+    }
+
+    private void togglePlay() { // Démarre ou met en pause la simulation
+        boolean run = !sim.isRunning(); // Nouvel état
+        sim.setRunning(run); // Lance ou met en pause la simulation
+        togglePlayButton(run); // Met à jour les contrôles
+    }
+
+    private void togglePlayButton(boolean running) { // Met les contrôles en accord avec l'état de la lecture
+        playPauseBtn.setText(running ? "Pause" : "Démarrer"); // Met à jour le texte du bouton
+        setControlsEnabled(!running); // Désactive les contrôles pendant la lecture pour éviter les conflits
+        playPauseBtn.setEnabled(true); // Garde le bouton play/pause actif
+    }
+
+    private void setControlsEnabled(boolean enabled) { // Active/désactive certains contrôles selon l'état
+        stepBtn.setEnabled(enabled); // Active/désactive le bouton pas
+        clearBtn.setEnabled(enabled); // Active/désactive le bouton effacer
+        randomBtn.setEnabled(enabled); // Active/désactive le bouton aléatoire
+        openBtn.setEnabled(enabled); // Active/désactive l'import
+        saveBtn.setEnabled(enabled); // Active/désactive l'export
+        rewindBtn.setEnabled(enabled); // Active/désactive le retour en arrière
+        speedSlider.setEnabled(!unlimitedBox.isSelected()); // La vitesse reste toujours ajustable
+    }
+}
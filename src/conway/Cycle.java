@@ -0,0 +1,27 @@
+package conway;
+
+// Cycle détecté par un moteur : à partir de la génération start, l'état se répète toutes les period
+// générations, décalé de (dr, dc) cellules (0,0 pour un oscillateur ou une nature morte, non nul pour un vaisseau).
+// Immuable : il peut être lu par l'IHM pendant que le thread de simulation continue.
+public final class Cycle { // Période et déplacement d'un état périodique
+    private final int period; // Nombre de générations d'un cycle (1 = nature morte)
+    private final int dr, dc; // Déplacement (lignes, colonnes) du monde à chaque cycle
+    private final long start; // Génération à partir de laquelle le cycle a été observé
+
+    Cycle(int period, int dr, int dc, long start) { // Constructeur
+        this.period = period; this.dr = dr; this.dc = dc; this.start = start; // Mémorise les caractéristiques
+    }
+
+    public int getPeriod() { return period; } // Nombre de générations d'un cycle
+    public int getRowShift() { return dr; } // Déplacement vertical par cycle
+    public int getColShift() { return dc; } // Déplacement horizontal par cycle
+    public long getStart() { return start; } // Génération de début observée
+    public boolean isMoving() { return dr != 0 || dc != 0; } // Vaisseau (le monde se déplace) ?
+
+    @Override
+    public String toString() { // Description courte (IHM et rapport du mode sans affichage)
+        String s = period == 1 ? "stable" : "période " + period; // Nature morte ou oscillateur
+        if (isMoving()) s += ", déplacement (" + dr + "," + dc + ")"; // Vaisseau
+        return s + " depuis la génération " + start; // Début observé
+    }
+}
@@ -0,0 +1,73 @@
+package conway;
+
+// Détection des cycles d'un monde clairsemé à partir d'une empreinte invariante par translation.
+// L'empreinte d'un ensemble de cellules est la somme modulo 2^64 d'un mélange 64 bits (finaliseur de SplitMix64)
+// de chaque cellule relative au coin haut-gauche du rectangle englobant : elle ne dépend pas de la position du motif,
+// et deux formes différentes ne se confondent qu'avec une probabilité de l'ordre de 2^-64 (aucune structure
+// algébrique ne relie les termes, contrairement à une somme de puissances). Le moteur la recalcule à chaque pas,
+// une fois le rectangle connu ; on la compare aux maxPeriod générations précédentes (avec la population et la
+// taille du rectangle). Un cycle n'est confirmé qu'après s'être répété sur une période complète.
+final class CycleDetector { // Utilisé par le moteur qui le possède, sur son thread
+    static final int DEFAULT_MAX_PERIOD = 128; // Plus longue période cherchée (cendres usuelles : 1, 2, 3, 15, et leurs ppcm)
+
+    private final int maxPeriod; // Plus longue période cherchée
+    private final long[] hashes; // Empreintes normalisées des dernières générations (anneau indexé par génération)
+    private final long[] populations; // Populations correspondantes
+    private final int[] tops, lefts, heights, widths; // Rectangles englobants correspondants
+    private int filled; // Générations consécutives mémorisées (au plus la taille de l'anneau)
+    private int candidate, candidateDr, candidateDc, matches; // Période en cours de confirmation et répétitions vues
+    private long candidateStart; // Génération de la première répétition vue
+    private Cycle cycle; // Cycle confirmé (null : aucun)
+
+    CycleDetector(int maxPeriod) { // Détecteur cherchant les périodes 1..maxPeriod
+        if (maxPeriod < 1) throw new IllegalArgumentException("maxPeriod must be >= 1"); // Paramètre invalide
+        this.maxPeriod = maxPeriod; // Mémorise la borne
+        int n = maxPeriod + 1; // Générations à garder (l'actuelle et maxPeriod précédentes)
+        hashes = new long[n]; populations = new long[n]; // Anneau des empreintes
+        tops = new int[n]; lefts = new int[n]; heights = new int[n]; widths = new int[n]; // Anneau des rectangles
+    }
+
+    static long term(int dr, int dc) { // Contribution de la cellule (dr,dc), relative au coin du rectangle englobant
+        long z = ((long) dr << 32 ^ (dc & 0xffffffffL)) + 0x9E3779B97F4A7C15L; // Clé de la cellule, décalée (0 ne donne pas 0)
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L; // Finaliseur de SplitMix64 : chaque bit de la clé
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL; // influence tous les bits du résultat
+        return z ^ (z >>> 31); // Terme mélangé
+    }
+
+    Cycle cycle() { return cycle; } // Cycle confirmé (null : aucun)
+
+    void reset() { filled = 0; candidate = 0; cycle = null; } // Le monde a été modifié : l'historique ne vaut plus rien
+
+    // Enregistre l'état de la génération (empreinte relative au coin, rectangle englobant) ; renvoie le cycle s'il est confirmé
+    Cycle observe(long generation, long hash, long population, int top, int left, int bottom, int right) {
+        if (cycle != null) return cycle; // Déjà confirmé : un état périodique le reste jusqu'à la prochaine modification
+        int n = hashes.length, i = (int) Math.floorMod(generation, (long) n); // Case de cette génération
+        hashes[i] = hash; // Empreinte (déjà relative au coin du rectangle)
+        populations[i] = population; tops[i] = top; lefts[i] = left; // Population et position
+        heights[i] = bottom - top; widths[i] = right - left; // Taille du rectangle
+        if (filled < n) filled++; // Une génération de plus en mémoire
+        if (candidate > 0) { // Période en cours de confirmation
+            if (matches(i, candidate, n) && tops[i] - tops[back(i, candidate, n)] == candidateDr
+                    && lefts[i] - lefts[back(i, candidate, n)] == candidateDc) { // Se répète encore, avec le même décalage
+                if (++matches >= Math.max(2, candidate)) cycle = new Cycle(candidate, candidateDr, candidateDc, candidateStart); // Confirmé
+                return cycle; // Confirmé ou toujours en attente
+            }
+            candidate = 0; // La répétition était une coïncidence
+        }
+        for (int p = 1; p < filled && p <= maxPeriod; p++) { // Plus petite période qui se répète
+            if (!matches(i, p, n)) continue; // Pas cette période
+            int j = back(i, p, n); // Génération generation - p
+            candidate = p; candidateDr = tops[i] - tops[j]; candidateDc = lefts[i] - lefts[j]; // Période et décalage
+            matches = 1; candidateStart = generation - p; // Première répétition
+            break; // Plus petite période trouvée
+        }
+        return null; // Aucun cycle confirmé
+    }
+
+    private boolean matches(int i, int p, int n) { // L'état courant est-il celui d'il y a p générations (à translation près) ?
+        int j = back(i, p, n); // Case de la génération generation - p
+        return hashes[i] == hashes[j] && populations[i] == populations[j] && heights[i] == heights[j] && widths[i] == widths[j]; // Même forme
+    }
+
+    private static int back(int i, int p, int n) { return (i - p + n) % n; } // Case p générations plus tôt
+}
@@ -0,0 +1,268 @@
+package conway;
+
+import java.util.Arrays; // Importe Arrays pour effacer le monde
+import java.util.Random; // Importe le générateur aléatoire utilisé par randomize()
+import java.util.concurrent.ForkJoinPool; // Importe le pool fork/join utilisé pour le calcul parallèle
+import java.util.concurrent.RecursiveAction; // Importe la tâche fork/join découpant les lignes en bandes
+
+// Moteur dense sur un monde fini de getRows() x getCols() cellules, centré en (0,0) comme la zone de randomize() :
+// lignes -rows/2 .. rows-rows/2-1, colonnes de même. Au-delà, les cellules sont mortes pour toujours (bord mort)
+// ou le monde se referme sur lui-même (tore). Chaque ligne occupe ceil(cols/64) long consécutifs d'un tableau plat
+// (bit i du mot j = colonne 64j+i, bits au-delà de la dernière colonne toujours à 0) ; deux tableaux sont échangés
+// à chaque génération. Le calcul applique les additionneurs bit à bit de TiledLife à 64 cellules par opération,
+// ligne après ligne, sans index ni liste de tuiles : l'accès mémoire est séquentiel et le coût ne dépend que de la
+// surface du monde (8 Mo par tableau pour un tore de 8192x8192), ce qui convient aux soupes denses.
+// En mode parallèle, les lignes sont réparties en bandes sur un pool fork/join ; chaque ligne ne lit que l'état
+// courant et n'écrit que la sienne, le résultat est donc identique bit à bit quel que soit le nombre de threads.
+public class DenseLife implements LifeEngine { // Quatrième moteur, pour les mondes finis
+    private static final int PARALLEL_GRAIN = 64; // Nombre de lignes en dessous duquel une tâche n'est plus découpée
+
+    private final int rows; // Nombre de lignes du monde
+    private final int cols; // Nombre de colonnes du monde
+    private final int top; // Ligne monde de la première ligne du tableau
+    private final int left; // Colonne monde de la première colonne du tableau
+    private final boolean wrap; // Tore (true) ou bord mort (false)
+    private final int words; // Mots par ligne
+    private final int lastBit; // Position de la dernière colonne dans le dernier mot d'une ligne
+    private final long lastMask; // Colonnes valides du dernier mot d'une ligne
+    private final long[] zeros; // Ligne morte : voisine des lignes de bord hors tore
+
+    private long[] cur; // Génération courante (rows x words)
+    private long[] nxt; // Génération suivante (échangée après calcul)
+    private final int[] rowPop, rowBorn; // Calcul du pas courant : population et naissances de chaque ligne
+    private final int[] diffLo, diffHi; // Calcul du pas courant : premier et dernier mots modifiés de chaque ligne (-1 : aucun)
+    private long population; // Cellules vivantes (tenue à jour par les éditions et par step)
+    private long generation = 0; // Compteur de générations écoulées
+    private Rule rule = Rule.CONWAY; // Règle simulée (Conway : additionneur spécialisé)
+    private long births = -1; // Naissances cumulées (-1 : comptage désactivé)
+    private ChangeTracker changes; // Zones modifiées depuis la dernière lecture (null : suivi désactivé)
+    private CellLog log; // Cellules changées depuis la dernière lecture (null : journal désactivé)
+    private int threads = 1; // Nombre de threads de calcul (1 = séquentiel)
+    private ForkJoinPool pool; // Pool de calcul parallèle (null en mode séquentiel)
+
+    public DenseLife(int rows, int cols, boolean wrap) { // Monde fini de rows x cols cellules, refermé en tore si wrap
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("rows/cols must be > 0"); // Validation des paramètres
+        int words = (cols + 63) >>> 6; // Mots par ligne
+        if ((long) rows * words > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("world too large: " + rows + "x" + cols); // Tableau impossible
+        this.rows = rows; // Affecte le nombre de lignes
+        this.cols = cols; // Affecte le nombre de colonnes
+        this.top = -(rows / 2); // Même centrage que randomize() et les soupes
+        this.left = -(cols / 2); // Idem en colonne
+        this.wrap = wrap; // Bord du monde
+        this.words = words; // Mots par ligne
+        this.lastBit = (cols - 1) & 63; // Dernière colonne dans son mot
+        this.lastMask = -1L >>> (63 - lastBit); // Bits 0..lastBit
+        this.zeros = new long[words]; // Ligne morte
+        this.cur = new long[rows * words]; // Génération courante
+        this.nxt = new long[rows * words]; // Génération suivante
+        this.rowPop = new int[rows]; this.rowBorn = new int[rows]; // Résultats par ligne
+        this.diffLo = new int[rows]; this.diffHi = new int[rows]; // Mots modifiés par ligne
+    }
+
+    public int getRows() { return rows; } // Renvoie le nombre de lignes du monde
+    public int getCols() { return cols; } // Renvoie le nombre de colonnes du monde
+    public boolean isBounded() { return true; } // Monde fini : rien n'existe hors de rows x cols
+    public long getGeneration() { return generation; } // Renvoie l'index de génération actuel
+    public void setGeneration(long generation) { this.generation = generation; } // Impose l'index de génération
+    public long getPopulation() { return population; } // Cellules vivantes
+    public Rule getRule() { return rule; } // Règle simulée
+    public void setRule(Rule rule) { this.rule = rule; } // Aucun état dérivé de la règle : tout est recalculé à chaque pas
+    public int getThreads() { return threads; } // Nombre de threads de calcul
+    public int maxThreads() { return Runtime.getRuntime().availableProcessors(); } // Un thread par cœur au plus
+
+    public void setThreads(int threads) { // Choisit le nombre de threads de calcul
+        if (threads < 1) throw new IllegalArgumentException("threads must be >= 1"); // Validation du paramètre
+        if (threads == this.threads) return; // Rien à changer
+        if (pool != null) pool.shutdown(); // Arrête l'ancien pool (ses threads se terminent d'eux-mêmes)
+        pool = threads > 1 ? new ForkJoinPool(threads) : null; // Nouveau pool, ou aucun en séquentiel
+        this.threads = threads; // Mémorise le réglage
+    }
+
+    public boolean isAlive(int r, int c) { // Indique si la cellule (r,c) est vivante (toujours morte hors du monde)
+        long i = (long) r - top, j = (long) c - left; // Position dans le tableau
+        if (i < 0 || i >= rows || j < 0 || j >= cols) return false; // Hors du monde
+        return (cur[(int) i * words + (int) (j >>> 6)] >>> (j & 63) & 1L) != 0; // Lit le bit correspondant
+    }
+
+    public void setAlive(int r, int c, boolean makeAlive) { // Force l'état d'une cellule ; ignoré hors du monde
+        long i = (long) r - top, j = (long) c - left; // Position dans le tableau
+        if (i < 0 || i >= rows || j < 0 || j >= cols) return; // Hors du monde : la cellule n'existe pas
+        int k = (int) i * words + (int) (j >>> 6); // Mot de la cellule
+        long bit = 1L << (j & 63); // Masque de la colonne
+        long old = cur[k]; // Mot avant modification
+        long w = makeAlive ? old | bit : old & ~bit; // Mot après modification
+        if (w == old) return; // Aucun changement
+        cur[k] = w; // Écrit le mot
+        population += makeAlive ? 1 : -1; // Tient la population à jour
+        if (changes != null) changes.mark(r, c); // Signale la cellule modifiée
+        if (log != null) log.add(r, c); // Note la cellule changée
+    }
+
+    public void toggle(int r, int c) { // Inverse l'état d'une cellule
+        setAlive(r, c, !isAlive(r, c)); // Délègue à setAlive
+    }
+
+    public void clear() { // Efface tout le monde
+        if (log != null) forEachAlive(log::add); // Chaque cellule vivante meurt
+        Arrays.fill(cur, 0); // Toutes les cellules meurent
+        population = 0; // Plus aucune cellule vivante
+        generation = 0; // Réinitialise le compteur de générations
+        if (changes != null) changes.markAll(); // Tout a pu changer
+    }
+
+    public void randomize(double density) { // Remplit aléatoirement tout le monde avec une densité donnée [0..1]
+        if (density < 0) density = 0; // Coupe la densité minimale à 0
+        if (density > 1) density = 1; // Coupe la densité maximale à 1
+        Random rnd = new Random(); // Générateur aléatoire
+        long pop = 0; // Nouvelle population
+        for (int i = 0; i < rows; i++) { // Parcourt chaque ligne du monde
+            for (int j = 0; j < words; j++) { // Parcourt chaque mot de la ligne
+                long w = 0; // Mot construit bit à bit
+                int n = j < words - 1 ? 64 : lastBit + 1; // Colonnes du mot
+                for (int b = 0; b < n; b++) if (rnd.nextDouble() < density) w |= 1L << b; // Avec proba=density, cellule vivante
+                if (log != null) log.addBits(top + i, left + (j << 6), cur[i * words + j] ^ w); // Note les cellules changées
+                cur[i * words + j] = w; // Écrit le mot entier
+                pop += Long.bitCount(w); // Cumule la population
+            }
+        }
+        population = pop; // Population recalculée
+        generation = 0; // Réinitialise la génération, car on repart d'un nouvel état
+        if (changes != null) changes.markAll(); // Tout a pu changer
+    }
+
+    public void forEachAlive(CellVisitor visitor) { // Parcourt toutes les cellules vivantes, ligne par ligne
+        for (int i = 0; i < rows; i++) { // Pour chaque ligne
+            for (int j = 0; j < words; j++) { // Pour chaque mot de la ligne
+                for (long w = cur[i * words + j]; w != 0; w &= w - 1) { // Pour chaque bit posé (on efface le plus bas à chaque tour)
+                    visitor.visit(top + i, left + (j << 6) + Long.numberOfTrailingZeros(w)); // Coordonnées monde
+                }
+            }
+        }
+    }
+
+    public void forEachAliveIn(int r0, int c0, int r1, int c1, CellVisitor visitor) { // Cellules vivantes d'un rectangle
+        forEachWordIn(r0, c0, r1, c1, (i, j, w) -> { // Pour chaque mot, déjà masqué au rectangle
+            int row = top + i, col0 = left + (j << 6); // Coordonnées monde du bit 0
+            for (; w != 0; w &= w - 1) visitor.visit(row, col0 + Long.numberOfTrailingZeros(w)); // Chaque bit posé
+        });
+    }
+
+    public void countAlive(int r0, int c0, int shift, int blockRows, int blockCols, int[] out) { // Comptage par blocs, mot par mot
+        int r1 = (int) Math.min(Integer.MAX_VALUE, r0 + ((long) blockRows << shift)); // Borne basse exclue
+        int c1 = (int) Math.min(Integer.MAX_VALUE, c0 + ((long) blockCols << shift)); // Borne droite exclue
+        forEachWordIn(r0, c0, r1, c1, (i, j, w) -> { // Pour chaque mot masqué
+            int base = ((top + i - r0) >>> shift) * blockCols; // Première case de la ligne de blocs
+            long col0 = (long) left + (j << 6) - c0; // Colonne du bit 0, relative à c0
+            if (shift < 6) { // Blocs plus étroits qu'un mot : bit par bit
+                for (; w != 0; w &= w - 1) out[base + (int) ((col0 + Long.numberOfTrailingZeros(w)) >>> shift)]++; // Chaque bit
+                return;
+            }
+            long first = (col0 + Long.numberOfTrailingZeros(w)) >>> shift; // Bloc du premier bit (le mot en couvre au plus deux)
+            long split = ((first + 1) << shift) - col0; // Premier bit du bloc suivant
+            long low = split >= 64 ? w : w & ((1L << split) - 1); // Bits du premier bloc
+            out[base + (int) first] += Long.bitCount(low); // Premier bloc
+            if (low != w) out[base + (int) first + 1] += Long.bitCount(w ^ low); // Reste dans le bloc suivant
+        });
+    }
+
+    private interface WordVisitor { void visit(int i, int j, long bits); } // Reçoit un mot (ligne i, mot j) masqué
+
+    private void forEachWordIn(int r0, int c0, int r1, int c1, WordVisitor visitor) { // Mots non vides d'un rectangle
+        int i0 = (int) Math.max(0, (long) r0 - top), i1 = (int) Math.min(rows, (long) r1 - top); // Lignes [i0, i1)
+        int j0 = (int) Math.max(0, (long) c0 - left), j1 = (int) Math.min(cols, (long) c1 - left); // Colonnes [j0, j1)
+        if (i1 <= i0 || j1 <= j0) return; // Rectangle hors du monde
+        int w0 = j0 >>> 6, w1 = (j1 - 1) >>> 6; // Mots concernés (bornes incluses)
+        long m0 = -1L << (j0 & 63), m1 = -1L >>> (63 - ((j1 - 1) & 63)); // Masques du premier et du dernier mot
+        for (int i = i0; i < i1; i++) { // Pour chaque ligne concernée
+            for (int j = w0; j <= w1; j++) { // Pour chaque mot concerné
+                long w = cur[i * words + j]; // Bits vivants du mot
+                if (j == w0) w &= m0; // Colonnes à gauche du rectangle
+                if (j == w1) w &= m1; // Colonnes à droite du rectangle
+                if (w != 0) visitor.visit(i, j, w); // Transmet les mots non vides
+            }
+        }
+    }
+
+    public void step() { // Avance d'une génération sur tout le monde
+        if (pool != null && rows >= 2 * PARALLEL_GRAIN) pool.invoke(new ComputeTask(0, rows)); // Découpage fork/join
+        else computeRows(0, rows); // Séquentiel : écrit dans nxt
+        long pop = 0, born = 0; // Population et naissances du pas
+        for (int i = 0; i < rows; i++) { // Rassemble les résultats des lignes
+            pop += rowPop[i]; born += rowBorn[i]; // Cumule
+            if (changes != null && diffLo[i] >= 0) changes.markRect(top + i, left + (diffLo[i] << 6), top + i + 1, // Mots modifiés
+                    left + Math.min(cols, (diffHi[i] + 1) << 6)); // (coupés à la dernière colonne)
+            if (log != null && diffLo[i] >= 0) { // Note les cellules changées : cur ^ nxt sur les mots modifiés
+                for (int j = diffLo[i], o = i * words; j <= diffHi[i]; j++) log.addBits(top + i, left + (j << 6), cur[o + j] ^ nxt[o + j]); // Bits changés
+            }
+        }
+        long[] tmp = cur; cur = nxt; nxt = tmp; // Échange les deux tampons
+        population = pop; // Nouvelle population
+        if (births >= 0) births += born; // Naissances comptées
+        generation++; // Incrémente le compteur de générations
+    }
+
+    private final class ComputeTask extends RecursiveAction { // Calcule les lignes [lo, hi) en parallèle
+        private static final long serialVersionUID = 1L; // Version de sérialisation (tâche jamais sérialisée)
+        private final int lo, hi; // Intervalle de lignes
+
+        ComputeTask(int lo, int hi) { this.lo = lo; this.hi = hi; } // Constructeur
+
+        @Override
+        protected void compute() { // Découpe en deux tant que la bande est haute
+            if (hi - lo <= PARALLEL_GRAIN) { computeRows(lo, hi); return; } // Assez petite : calcul direct
+            int mid = (lo + hi) >>> 1; // Milieu de la bande
+            invokeAll(new ComputeTask(lo, mid), new ComputeTask(mid, hi)); // Les deux moitiés en parallèle
+        }
+    }
+
+    private void computeRows(int lo, int hi) { // Calcule nxt pour les lignes [lo, hi) (lecture seule de cur)
+        long[] cur = this.cur, nxt = this.nxt; // Tampons du pas
+        boolean conway = rule.isConway(); // Additionneur spécialisé ?
+        int birth = rule.birthMask(), survival = rule.survivalMask(); // Masques de la règle générique
+        int last = words - 1; // Dernier mot d'une ligne
+        for (int i = lo; i < hi; i++) { // Pour chaque ligne de la bande
+            long[] ga = cur, gb = cur; // Tableaux des lignes du dessus et du dessous
+            int oa, ob, om = i * words; // Début de chaque ligne
+            if (i > 0) oa = om - words; else if (wrap) oa = (rows - 1) * words; else { ga = zeros; oa = 0; } // Ligne du dessus
+            if (i < rows - 1) ob = om + words; else if (wrap) ob = 0; else { gb = zeros; ob = 0; } // Ligne du dessous
+            // Colonnes entrant par les extrémités de la ligne : en tore, la dernière colonne est à gauche de la première
+            long aW = 0, mW = 0, bW = 0, aE = 0, mE = 0, bE = 0; // Bord mort : rien n'entre
+            if (wrap) { // Tore : bits de la dernière colonne (à l'ouest) et de la première (à l'est)
+                aW = ga[oa + last] >>> lastBit & 1; mW = cur[om + last] >>> lastBit & 1; bW = gb[ob + last] >>> lastBit & 1; // Ouest
+                aE = ga[oa] & 1; mE = cur[om] & 1; bE = gb[ob] & 1; // Est
+            }
+            int pop = 0, born = 0, first = -1, end = -1; // Résultats de la ligne
+            long pa = aW << 63, pm = mW << 63, pb = bW << 63; // Mots précédents (avant le premier : la colonne entrant par l'ouest)
+            long a = ga[oa], m = cur[om], b = gb[ob]; // Mots courants du dessus, de la ligne et du dessous
+            for (int j = 0; j <= last; j++) { // Pour chaque mot de la ligne (fenêtre glissante : chaque mot n'est lu qu'une fois)
+                long na, nm, nb, ae, me, be, keep; // Mots suivants, bits entrant à droite et colonnes valides
+                if (j < last) { // Mot intérieur : le bit 0 du mot suivant entre à droite
+                    na = ga[oa + j + 1]; nm = cur[om + j + 1]; nb = gb[ob + j + 1]; // Mots suivants
+                    ae = na << 63; me = nm << 63; be = nb << 63; keep = -1L; // Bits entrants, toutes colonnes valides
+                } else { // Dernier mot : la colonne entrant par l'est se place après la dernière colonne
+                    na = nm = nb = 0; // Plus de mot suivant
+                    ae = aE << lastBit; me = mE << lastBit; be = bE << lastBit; keep = lastMask; // Rien ne naît au-delà
+                }
+                long aL = a << 1 | pa >>> 63, aR = a >>> 1 | ae; // Voisins gauche/droite de la ligne du dessus
+                long mL = m << 1 | pm >>> 63, mR = m >>> 1 | me; // Voisins gauche/droite de la ligne courante
+                long bL = b << 1 | pb >>> 63, bR = b >>> 1 | be; // Voisins gauche/droite de la ligne du dessous
+                long v = (conway ? TiledLife.next(aL, a, aR, mL, m, mR, bL, b, bR) // Applique la règle aux 64 cellules du mot
+                        : TiledLife.next(birth, survival, aL, a, aR, mL, m, mR, bL, b, bR)) & keep; // Règle quelconque
+                nxt[om + j] = v; // Écrit le mot résultat
+                if (v != m) { if (first < 0) first = j; end = j; } // Mots modifiés
+                pop += Long.bitCount(v); // Population de la ligne
+                born += Long.bitCount(v & ~m); // Cellules nées
+                pa = a; pm = m; pb = b; a = na; m = nm; b = nb; // Glisse la fenêtre d'un mot
+            }
+            rowPop[i] = pop; rowBorn[i] = born; // Résultats de la ligne
+            diffLo[i] = first; diffHi[i] = end; // Mots modifiés
+        }
+    }
+
+    public void setChangeTracking(boolean on) { changes = on ? new ChangeTracker() : null; } // Active/désactive le suivi
+    public boolean drainChanges(RegionVisitor visitor) { return changes != null && changes.drain(visitor); } // Zones modifiées
+    public void setCellLogging(int limit) { log = limit > 0 ? new CellLog(limit) : null; } // Active/désactive le journal
+    public boolean drainCells(CellVisitor visitor) { return log != null && log.drain(visitor); } // Cellules changées
+    public void setBirthCounting(boolean on) { if (on != births >= 0) births = on ? 0 : -1; } // Active/désactive le comptage
+    public long getBirths() { return births; } // Naissances cumulées
+} // Fin de la classe DenseLife
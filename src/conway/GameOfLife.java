@@ -0,0 +1,254 @@
+package conway;
+
+import java.util.Random; // Importe le générateur aléatoire utilisé par randomize()
+
+public class GameOfLife implements LifeEngine { // Déclaration de la classe principale qui implémente la logique du Jeu de la vie
+    // Les lignes/colonnes fournies sont conservées comme zone par défaut pour randomize(),
+    // mais le monde lui-même est infini grâce à un ensemble clairsemé des cellules vivantes.
+    private final int defaultRows; // Nombre de lignes par défaut utilisé pour la randomisation et l'affichage
+    private final int defaultCols; // Nombre de colonnes par défaut utilisé pour la randomisation et l'affichage
+
+    // Structures primitives réutilisées d'une génération à l'autre : aucune allocation en régime établi
+    private LongHashSet alive = new LongHashSet(); // Ensemble des cellules vivantes, encodées en clé long (r,c)
+    private LongHashSet next = new LongHashSet(); // Tampon de la génération suivante (échangé avec alive)
+    private final LongIntMap counts = new LongIntMap(); // Compteur de voisins vivants par cellule
+    private ChangeTracker changes; // Zones modifiées depuis la dernière lecture (null : suivi désactivé)
+    private CellLog log; // Cellules changées depuis la dernière lecture (null : journal désactivé)
+    private long births = -1; // Naissances cumulées (-1 : comptage désactivé)
+    private CycleDetector cycles; // Détection des cycles (null : désactivée)
+    private Rule rule = Rule.CONWAY; // Règle de naissance/survie
+    private byte[] decisions = decisions(Rule.CONWAY); // Décision par nombre de voisins (DIES, LIVES, SURVIVES, BORN)
+    private long generation = 0; // Compteur de générations écoulées
+
+    // Décisions compilées depuis la règle : seules SURVIVES et BORN demandent de consulter l'état courant
+    private static final byte DIES = 0, LIVES = 1, SURVIVES = 2, BORN = 3; // Morte, vivante, vivante si déjà vivante, si morte
+
+    public GameOfLife(int rows, int cols) { // Constructeur avec les dimensions par défaut
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("rows/cols must be > 0"); // Validation des paramètres
+        this.defaultRows = rows; // Affecte le nombre de lignes par défaut
+        this.defaultCols = cols; // Affecte le nombre de colonnes par défaut
+    }
+
+    // Accesseurs conservés pour l'IHM ; ils représentent l'étendue par défaut utilisée par randomize()
+    public int getRows() { return defaultRows; } // Renvoie le nombre de lignes par défaut
+    public int getCols() { return defaultCols; } // Renvoie le nombre de colonnes par défaut
+    public long getGeneration() { return generation; } // Renvoie l'index de génération actuel
+    public void setGeneration(long generation) { // Impose l'index de génération
+        this.generation = generation; // Nouvel index
+        if (cycles != null) cycles.reset(); // L'historique des cycles est indexé par génération
+    }
+    public long getPopulation() { return alive.size(); } // Renvoie le nombre de cellules vivantes
+    public Rule getRule() { return rule; } // Règle simulée
+
+    public void setRule(Rule rule) { // Change la règle (prise en compte au prochain pas)
+        if (rule.equals(this.rule)) return; // Même règle : rien à faire
+        this.rule = rule; // Nouvelle règle
+        this.decisions = decisions(rule); // Table de décision correspondante
+        if (cycles != null) cycles.reset(); // Les états passés ne prédisent plus rien
+    }
+
+    private static byte[] decisions(Rule rule) { // Table de décision par nombre de voisins (0..8)
+        byte[] d = new byte[9]; // Une case par nombre de voisins
+        for (int n = 0; n <= 8; n++) { // Chaque nombre de voisins
+            boolean born = rule.next(false, n), survives = rule.next(true, n); // Les deux cas de la règle
+            d[n] = born ? (survives ? LIVES : BORN) : (survives ? SURVIVES : DIES); // Décision
+        }
+        return d; // Table compilée
+    }
+
+    public boolean isAlive(int r, int c) { // Indique si la cellule (r,c) est vivante
+        return alive.contains(key(r, c)); // Vérifie la présence de la clé (r,c) dans l'ensemble des vivants
+    }
+
+    public void setAlive(int r, int c, boolean makeAlive) { // Force l'état (vivant/mort) d'une cellule
+        long k = key(r, c); // Calcule la clé unique pour la cellule
+        boolean changed = makeAlive ? alive.add(k) : alive.remove(k); // Ajoute ou supprime la cellule selon makeAlive
+        if (changed && changes != null) changes.mark(r, c); // Signale la cellule modifiée
+        if (changed && log != null) log.add(r, c); // Note la cellule changée
+        if (changed && cycles != null) cycles.reset(); // L'historique ne décrit plus le monde
+    }
+
+    public void toggle(int r, int c) { // Inverse l'état d'une cellule (vivante <-> morte)
+        long k = key(r, c); // Calcule la clé de la cellule
+        boolean born = !alive.remove(k) && alive.add(k); // Si vivante alors tuer, sinon faire naître (une seule recherche si vivante)
+        if (changes != null) changes.mark(r, c); // Signale la cellule modifiée
+        if (log != null) log.add(r, c); // Note la cellule changée
+        if (cycles != null) cycles.reset(); // L'historique ne décrit plus le monde
+    }
+
+    public void clear() { // Efface tout le monde (toutes les cellules mortes)
+        if (log != null) forEachAlive(log::add); // Chaque cellule vivante meurt
+        alive.clear(); // Vide l'ensemble des cellules vivantes
+        if (changes != null) changes.markAll(); // Tout a pu changer
+        if (cycles != null) cycles.reset(); // Monde vide, nouvel historique
+        generation = 0; // Réinitialise le compteur de générations
+    }
+
+    public void randomize(double density) { // Remplit aléatoirement une zone par défaut avec une densité donnée [0..1]
+        if (density < 0) density = 0; // Coupe la densité minimale à 0
+        if (density > 1) density = 1; // Coupe la densité maximale à 1
+        Random rnd = new Random(); // Générateur aléatoire
+        int r0 = -defaultRows / 2; // Décalage d'origine des lignes (centrer la zone autour de 0)
+        int c0 = -defaultCols / 2; // Décalage d'origine des colonnes (centrer la zone autour de 0)
+        for (int r = 0; r < defaultRows; r++) { // Parcourt chaque ligne de la zone par défaut
+            for (int c = 0; c < defaultCols; c++) { // Parcourt chaque colonne de la zone par défaut
+                long k = key(r0 + r, c0 + c); // Clé de la cellule
+                boolean changed = rnd.nextDouble() < density ? alive.add(k) : alive.remove(k); // Avec proba=density vivante, sinon morte
+                if (changed && log != null) log.add(r0 + r, c0 + c); // Note la cellule changée
+            }
+        }
+        if (changes != null) changes.markRect(r0, c0, r0 + defaultRows, c0 + defaultCols); // Zone remplie
+        if (cycles != null) cycles.reset(); // Nouvel état : repart d'un historique vide
+        generation = 0; // Réinitialise la génération, car on repart d'un nouvel état
+    }
+
+    public void step() { // Fait avancer la simulation d'une génération selon la règle courante
+        // Compte les voisins pour toutes les cellules vivantes et leurs voisines
+        LongIntMap counts = this.counts; // Compteur réutilisé : clé cellule -> nombre de voisins vivants
+        counts.clear(); // Repart d'un compteur vide (la capacité est conservée)
+        LongHashSet alive = this.alive; // Copie locale de l'ensemble courant
+        byte[] decisions = this.decisions; // Table de la règle courante
+        boolean isolatedSurvive = decisions[0] != DIES; // Règle S0 : une cellule sans voisin survit, elle doit être comptée
+        for (int s = 0, n = alive.slots(); s < n; s++) { // Pour chaque case de l'ensemble des vivants
+            if (!alive.used(s)) continue; // Ignore les cases vides
+            long k = alive.keyAt(s); // Clé de la cellule vivante
+            if (isolatedSurvive) counts.put(k, counts.get(k)); // Présente dans le compteur même à 0 voisin
+            int r = (int)(k >> 32); // Récupère la ligne à partir de la clé (bits de poids fort)
+            int c = (int)(k & 0xffffffffL); // Récupère la colonne à partir de la clé (bits de poids faible)
+            for (int dr = -1; dr <= 1; dr++) { // Parcourt les 3 décalages de ligne (-1,0,1)
+                for (int dc = -1; dc <= 1; dc++) { // Parcourt les 3 décalages de colonne (-1,0,1)
+                    if (dr == 0 && dc == 0) continue; // Ignore la cellule elle-même
+                    counts.increment(key(r + dr, c + dc)); // Incrémente le nombre de voisins vivants pour ce voisin
+                }
+            }
+        }
+        LongHashSet next = this.next; // Ensemble de la prochaine génération (tampon réutilisé)
+        next.clear(); // Vide le tampon
+        ChangeTracker changes = this.changes; // Suivi des zones modifiées (null : désactivé)
+        CellLog log = this.log; // Journal des cellules changées (null : désactivé)
+        boolean tracked = cycles != null; // Empreinte et rectangle englobant à calculer ?
+        int top = Integer.MAX_VALUE, left = Integer.MAX_VALUE, bottom = Integer.MIN_VALUE, right = Integer.MIN_VALUE; // Rectangle englobant
+        // Sans B0, une cellule sans voisin vivant ne naît jamais : seules les cellules comptées peuvent vivre
+        for (int s = 0, n = counts.slots(); s < n; s++) { // Parcourt les cellules ayant au moins un voisin vivant
+            if (!counts.used(s)) continue; // Ignore les cases vides
+            int nb = counts.valueAt(s); // Nombre de voisins vivants comptés
+            byte d = decisions[nb]; // Décision de la règle
+            if (d == DIES) continue; // Morte quel que soit son état
+            long k = counts.keyAt(s); // Clé de la cellule
+            if (d == LIVES || (d == SURVIVES) == alive.contains(k)) { // Naissance ou survie selon la règle
+                next.add(k); // Vivante à la génération suivante
+                if (tracked) { // Rectangle calculé pendant la construction, sans passe supplémentaire
+                    int r = (int) (k >> 32), c = (int) k; // Coordonnées de la cellule
+                    if (r < top) top = r; if (r > bottom) bottom = r; if (c < left) left = c; if (c > right) right = c; // Rectangle
+                }
+                if ((changes != null || log != null || births >= 0) && (d == BORN || (d == LIVES && !alive.contains(k)))) { // Naissance
+                    if (changes != null) changes.mark((int) (k >> 32), (int) k); // Zone modifiée
+                    if (log != null) log.add((int) (k >> 32), (int) k); // Cellule changée
+                    if (births >= 0) births++; // Comptée
+                }
+            }
+        }
+        if (changes != null || log != null) { // Les morts ne sont visibles qu'en comparant les deux ensembles
+            for (int s = 0, n = alive.slots(); s < n; s++) { // Pour chaque cellule vivante
+                if (!alive.used(s)) continue; // Ignore les cases vides
+                long k = alive.keyAt(s); // Clé de la cellule
+                if (next.contains(k)) continue; // Survivante
+                if (changes != null) changes.mark((int) (k >> 32), (int) k); // Mort
+                if (log != null) log.add((int) (k >> 32), (int) k); // Cellule changée
+            }
+        }
+        this.next = alive; // L'ancien ensemble devient le tampon de la prochaine étape
+        this.alive = next; // Le nouvel état devient l'état courant
+        generation++; // Incrémente le compteur de générations
+        if (tracked) { // Compare le nouvel état aux précédents
+            if (next.isEmpty()) { top = left = 0; bottom = right = -1; } // Monde vide
+            long h = 0; // Empreinte, relative au coin du rectangle (connu seulement maintenant)
+            for (int s = 0, n = next.slots(); s < n; s++) { // Pour chaque cellule vivante
+                if (next.used(s)) h += CycleDetector.term((int) (next.keyAt(s) >> 32) - top, (int) next.keyAt(s) - left); // Contribution
+            }
+            cycles.observe(generation, h, next.size(), top, left, bottom, right); // Cherche une répétition
+        }
+    }
+
+    @Override
+    public void advance(long generations) { // Avance de n générations ; un cycle confirmé est sauté sans calcul
+        for (; generations > 0; generations--) { // Génération par génération tant qu'aucun cycle n'est connu
+            Cycle cycle = cycles == null ? null : cycles.cycle(); // Cycle confirmé ?
+            if (cycle != null) { skip(cycle, generations); return; } // Le reste se déduit de la période
+            step(); // Calcule une génération
+        }
+    }
+
+    private void skip(Cycle cycle, long generations) { // Avance de n générations dans un cycle confirmé
+        long periods = generations / cycle.getPeriod(); // Cycles complets : l'état est le même, translaté
+        if (periods > 0 && cycle.isMoving()) { // Vaisseau : déplace tout le monde d'un coup
+            int dr = (int) (periods * cycle.getRowShift()), dc = (int) (periods * cycle.getColShift()); // Décalage total (int comme les coordonnées)
+            LongHashSet next = this.next; // Tampon réutilisé
+            next.clear(); // Vide le tampon
+            for (int s = 0, n = alive.slots(); s < n; s++) { // Pour chaque cellule vivante
+                if (!alive.used(s)) continue; // Ignore les cases vides
+                long k = alive.keyAt(s); // Clé de la cellule
+                next.add(key((int) (k >> 32) + dr, (int) k + dc)); // Cellule translatée
+            }
+            if (log != null) { // Cellules changées : l'ancien motif et le nouveau, hors de leur intersection
+                logMissing(alive, next); // Cellules quittées
+                logMissing(next, alive); // Cellules atteintes
+            }
+            this.next = alive; this.alive = next; // Échange les ensembles
+            if (changes != null) changes.markAll(); // Le motif a quitté sa place
+        }
+        generation += periods * cycle.getPeriod(); // Générations sautées
+        for (long i = generations % cycle.getPeriod(); i > 0; i--) step(); // Reste de la période, calculé normalement
+    }
+
+    private void logMissing(LongHashSet from, LongHashSet to) { // Note les cellules de from absentes de to
+        for (int s = 0, n = from.slots(); s < n; s++) { // Pour chaque cellule de from
+            if (from.used(s) && !to.contains(from.keyAt(s))) log.add((int) (from.keyAt(s) >> 32), (int) from.keyAt(s)); // Changée
+        }
+    }
+
+    public void setCycleDetection(boolean on) { // Active/désactive la détection des cycles
+        cycles = on ? new CycleDetector(CycleDetector.DEFAULT_MAX_PERIOD) : null; // Nouveau détecteur, historique vide
+    }
+
+    public Cycle getCycle() { return cycles == null ? null : cycles.cycle(); } // Cycle confirmé de l'état courant
+
+    public void forEachAlive(CellVisitor visitor) { // Parcourt toutes les cellules vivantes
+        LongHashSet alive = this.alive; // Copie locale de l'ensemble courant
+        for (int s = 0, n = alive.slots(); s < n; s++) { // Pour chaque case de l'ensemble
+            if (!alive.used(s)) continue; // Ignore les cases vides
+            long k = alive.keyAt(s); // Clé de la cellule
+            visitor.visit((int) (k >> 32), (int) k); // Décode (r,c) et transmet
+        }
+    }
+
+    public void forEachAliveIn(int r0, int c0, int r1, int c1, CellVisitor visitor) { // Cellules vivantes d'un rectangle
+        if (r1 <= r0 || c1 <= c0) return; // Rectangle vide
+        long area = (long) (r1 - r0) * (c1 - c0); // Nombre de cellules du rectangle
+        if (area <= alive.size()) { // Petit rectangle : on interroge chaque cellule
+            for (int r = r0; r < r1; r++) for (int c = c0; c < c1; c++) if (alive.contains(key(r, c))) visitor.visit(r, c); // Recherche directe
+            return; // Terminé
+        }
+        LongHashSet alive = this.alive; // Grand rectangle : on filtre l'ensemble des vivants
+        for (int s = 0, n = alive.slots(); s < n; s++) { // Pour chaque case de l'ensemble
+            if (!alive.used(s)) continue; // Ignore les cases vides
+            long k = alive.keyAt(s); // Clé de la cellule
+            int r = (int) (k >> 32), c = (int) k; // Décode (r,c)
+            if (r >= r0 && r < r1 && c >= c0 && c < c1) visitor.visit(r, c); // Transmet si dans le rectangle
+        }
+    }
+
+    public boolean hasSpatialIndex() { return false; } // Table de hachage : aucune localité entre cellules voisines
+
+    public void setChangeTracking(boolean on) { changes = on ? new ChangeTracker() : null; } // Active/désactive le suivi
+    public void setCellLogging(int limit) { log = limit > 0 ? new CellLog(limit) : null; } // Active/désactive le journal
+    public void setBirthCounting(boolean on) { if (on != births >= 0) births = on ? 0 : -1; } // Active/désactive le comptage
+    public long getBirths() { return births; } // Naissances cumulées
+
+    public boolean drainChanges(RegionVisitor visitor) { return changes != null && changes.drain(visitor); } // Zones modifiées
+    public boolean drainCells(CellVisitor visitor) { return log != null && log.drain(visitor); } // Cellules changées
+
+    private static long key(int r, int c) { // Encode une paire (r,c) dans un long pour stockage efficace
+        return (((long) r) << 32) ^ (((long) c) & 0xffffffffL); // Combine r (haut 32 bits) et c (bas 32 bits) avec un XOR
+    }
+} // Fin de la classe GameOfLife
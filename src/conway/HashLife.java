@@ -0,0 +1,402 @@
+package conway;
+
+import java.util.Random; // Importe le générateur aléatoire utilisé par randomize()
+
+// Moteur HashLife : le monde est un quadtree canonique (chaque configuration n'existe qu'une fois en mémoire)
+// et le résultat de chaque nœud est mémorisé, ce qui permet d'avancer de 2^k générations en un seul appel
+// sur les motifs réguliers (canons, breeders, flottes de vaisseaux).
+// Le cache de nœuds est borné : au-delà de maxNodes, les nœuds inaccessibles depuis la racine sont évincés.
+public class HashLife implements LifeEngine { // Troisième moteur, interchangeable avec GameOfLife
+    static final int MAX_STEP_LOG = 30; // Plus grand pas proposé : 2^30 générations par appel
+    static final int DEFAULT_MAX_NODES = 1 << 20; // Taille par défaut du cache de nœuds (~1 million)
+    private static final int MAX_LEVEL = 62; // Niveau maximal de la racine (coordonnées sur un long)
+
+    static final class Node { // Nœud du quadtree ; niveau n = carré de 2^n x 2^n cellules
+        final int level; // Niveau du nœud (0 = cellule)
+        final Node nw, ne, sw, se; // Quadrants (null pour une cellule)
+        final long population; // Nombre de cellules vivantes du carré
+        final int id; // Identifiant unique (sert au hachage des parents)
+        Node chain; // Nœud suivant dans le même compartiment de la table de hachage
+        Node result; // Centre avancé de 2^(level-2) générations (mémorisé)
+        Node stepped; // Centre avancé de 2^steppedLog générations (mémorisé pour le pas courant)
+        int steppedLog = -1; // Exposant du pas mémorisé dans stepped
+        int ruleEpoch; // Époque de règle sous laquelle result et stepped ont été calculés
+        int mark; // Époque du dernier marquage (éviction du cache)
+
+        Node(int id, boolean alive) { // Constructeur d'une cellule (niveau 0)
+            this.level = 0; this.nw = this.ne = this.sw = this.se = null; // Pas de quadrants
+            this.population = alive ? 1 : 0; this.id = id; // Population 0 ou 1
+        }
+
+        Node(int id, Node nw, Node ne, Node sw, Node se) { // Constructeur d'un nœud interne
+            this.level = nw.level + 1; this.nw = nw; this.ne = ne; this.sw = sw; this.se = se; // Quadrants
+            this.population = nw.population + ne.population + sw.population + se.population; // Somme des populations
+            this.id = id; // Identifiant unique
+        }
+    }
+
+    private final int defaultRows; // Nombre de lignes par défaut utilisé pour la randomisation et l'affichage
+    private final int defaultCols; // Nombre de colonnes par défaut utilisé pour la randomisation et l'affichage
+    private final int maxNodes; // Nombre de nœuds au-delà duquel le cache est purgé
+
+    private final Node dead = new Node(0, false); // Cellule morte canonique
+    private final Node live = new Node(1, true); // Cellule vivante canonique
+    private int nextId = 2; // Prochain identifiant de nœud
+    private Node[] table = new Node[1 << 16]; // Table de hachage des nœuds canoniques (chaînage)
+    private int count = 0; // Nombre de nœuds dans la table
+    private int gcThreshold; // Seuil de déclenchement de la purge
+    private int epoch = 0; // Époque de marquage courante
+    private Node[] empties = new Node[MAX_LEVEL + 1]; // Nœuds vides canoniques par niveau
+    private final Node[] smallResults = new Node[16]; // Les 16 nœuds de niveau 1 possibles
+    private static final byte[] CONWAY_BASE = base(Rule.CONWAY); // Table de Conway, partagée entre les instances
+    private byte[] base = CONWAY_BASE; // Résultat d'une génération pour chaque carré 4x4, selon la règle
+    private Rule rule = Rule.CONWAY; // Règle simulée
+    private int ruleEpoch = 0; // Incrémentée à chaque changement de règle : invalide tous les résultats mémorisés
+
+    private Node root; // Racine du monde, centrée sur (0,0)
+    private long generation = 0; // Compteur de générations écoulées
+
+    private static byte[] base(Rule rule) { // Précalcule le centre 2x2 après une génération pour les 65536 carrés 4x4 possibles
+        byte[] base = new byte[1 << 16]; // Une entrée par carré
+        for (int m = 0; m < 1 << 16; m++) { // Bit (r*4+c) = cellule (r,c) du carré
+            int res = 0; // Centre 2x2 calculé (bit (r-1)*2+(c-1))
+            for (int r = 1; r <= 2; r++) { // Lignes du centre
+                for (int c = 1; c <= 2; c++) { // Colonnes du centre
+                    int n = 0; // Nombre de voisins vivants
+                    for (int dr = -1; dr <= 1; dr++) for (int dc = -1; dc <= 1; dc++) // Parcourt le voisinage
+                        if ((dr != 0 || dc != 0) && (m >> ((r + dr) * 4 + c + dc) & 1) != 0) n++; // Compte les voisins vivants
+                    boolean alive = (m >> (r * 4 + c) & 1) != 0; // État actuel de la cellule
+                    if (rule.next(alive, n)) res |= 1 << ((r - 1) * 2 + (c - 1)); // Règle simulée
+                }
+            }
+            base[m] = (byte) res; // Mémorise le résultat
+        }
+        return base; // Table complète
+    }
+
+    public HashLife(int rows, int cols) { this(rows, cols, DEFAULT_MAX_NODES); } // Constructeur avec le cache par défaut
+
+    public HashLife(int rows, int cols, int maxNodes) { // Constructeur avec une taille de cache explicite
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("rows/cols must be > 0"); // Validation des paramètres
+        if (maxNodes < 1024) throw new IllegalArgumentException("maxNodes must be >= 1024"); // Cache minimal raisonnable
+        this.defaultRows = rows; // Affecte le nombre de lignes par défaut
+        this.defaultCols = cols; // Affecte le nombre de colonnes par défaut
+        this.maxNodes = maxNodes; // Taille maximale du cache
+        this.gcThreshold = maxNodes; // Premier seuil de purge
+        for (int i = 0; i < 16; i++) smallResults[i] = node(cell(i, 0), cell(i, 1), cell(i, 2), cell(i, 3)); // Nœuds de niveau 1
+        this.root = empty(3); // Monde vide de 8x8 cellules
+    }
+
+    public int getRows() { return defaultRows; } // Renvoie le nombre de lignes par défaut
+    public int getCols() { return defaultCols; } // Renvoie le nombre de colonnes par défaut
+    public long getGeneration() { return generation; } // Renvoie l'index de génération actuel
+    public void setGeneration(long generation) { this.generation = generation; } // Impose l'index de génération
+    public long getPopulation() { return root.population; } // Population mémorisée dans la racine
+    public Rule getRule() { return rule; } // Règle simulée
+
+    // Change la règle : les nœuds restent canoniques (ils ne décrivent que des cellules), mais leurs successeurs
+    // mémorisés ne valent plus rien. Ils sont invalidés par époque, vérifiée dans successor(), et non en parcourant
+    // la table : une purge en plein calcul laisse des nœuds accessibles depuis la racine qui n'y figurent plus.
+    public void setRule(Rule rule) {
+        if (rule.equals(this.rule)) return; // Même règle : le cache reste valable
+        this.rule = rule; // Nouvelle règle
+        this.base = rule.isConway() ? CONWAY_BASE : base(rule); // Nouvelle table 4x4
+        ruleEpoch++; // Tous les résultats mémorisés deviennent périmés
+    }
+    public int maxStepLog() { return MAX_STEP_LOG; } // Pas de 2^k générations disponibles
+    int getNodeCount() { return count; } // Nombre de nœuds actuellement dans le cache
+
+    public boolean isAlive(int r, int c) { // Indique si la cellule (r,c) est vivante
+        Node n = root; // Part de la racine
+        long half = 1L << (n.level - 1); // Demi-côté de la racine
+        long y = r + half, x = c + half; // Coordonnées relatives au coin supérieur gauche
+        if (y < 0 || x < 0 || y >= 2 * half || x >= 2 * half) return false; // Hors de l'univers représenté : morte
+        while (n.level > 0) { // Descend jusqu'à la cellule
+            if (n.population == 0) return false; // Sous-arbre vide : inutile de descendre
+            half = 1L << (n.level - 1); // Demi-côté du nœud courant
+            if (y < half) { n = x < half ? n.nw : n.ne; } // Moitié haute
+            else { n = x < half ? n.sw : n.se; y -= half; } // Moitié basse
+            if (x >= half) x -= half; // Coordonnée locale dans le quadrant choisi
+        }
+        return n == live; // Cellule vivante ?
+    }
+
+    public void setAlive(int r, int c, boolean makeAlive) { // Force l'état (vivant/mort) d'une cellule
+        while (!contains(root, r, c)) root = expand(root); // Agrandit l'univers jusqu'à contenir la cellule
+        long half = 1L << (root.level - 1); // Demi-côté de la racine
+        root = set(root, r + half, c + half, makeAlive ? live : dead); // Reconstruit le chemin modifié
+    }
+
+    public void toggle(int r, int c) { // Inverse l'état d'une cellule
+        setAlive(r, c, !isAlive(r, c)); // Délègue à setAlive
+    }
+
+    public void clear() { // Efface tout le monde
+        root = empty(3); // Repart d'un petit univers vide
+        generation = 0; // Réinitialise le compteur de générations
+        collect(); // Libère les nœuds devenus inutiles
+    }
+
+    public void randomize(double density) { // Remplit aléatoirement la zone par défaut avec une densité donnée [0..1]
+        if (density < 0) density = 0; // Coupe la densité minimale à 0
+        if (density > 1) density = 1; // Coupe la densité maximale à 1
+        Random rnd = new Random(); // Générateur aléatoire
+        int r0 = -defaultRows / 2; // Décalage d'origine des lignes (centrer la zone autour de 0)
+        int c0 = -defaultCols / 2; // Décalage d'origine des colonnes (centrer la zone autour de 0)
+        for (int r = 0; r < defaultRows; r++) { // Parcourt chaque ligne de la zone par défaut
+            for (int c = 0; c < defaultCols; c++) { // Parcourt chaque colonne de la zone par défaut
+                setAlive(r0 + r, c0 + c, rnd.nextDouble() < density); // Avec proba=density, rendre la cellule vivante
+            }
+        }
+        generation = 0; // Réinitialise la génération, car on repart d'un nouvel état
+    }
+
+    public void step() { stepPow(0); } // Avance d'une génération
+
+    // Accès au quadtree pour l'import/export Macrocell (MacrocellFormat) : construction directe des nœuds canoniques
+    Node getRoot() { return root; } // Racine courante (centrée sur (0,0))
+    Node emptyNode(int level) { return empty(level); } // Nœud vide canonique
+    Node join(Node nw, Node ne, Node sw, Node se) { return node(nw, ne, sw, se); } // Nœud canonique de ces quadrants
+
+    Node leaf(long bits) { return leaf(bits, 0, 0, 3); } // Nœud de niveau 3 d'un carré 8x8 (bit r*8+c)
+
+    private Node leaf(long bits, int r0, int c0, int level) { // Sous-carré de côté 2^level au coin (r0,c0)
+        if (level == 0) return (bits >>> (r0 * 8 + c0) & 1L) != 0 ? live : dead; // Cellule
+        int h = 1 << (level - 1); // Demi-côté
+        return node(leaf(bits, r0, c0, level - 1), leaf(bits, r0, c0 + h, level - 1), // Quadrants du haut
+                leaf(bits, r0 + h, c0, level - 1), leaf(bits, r0 + h, c0 + h, level - 1)); // Quadrants du bas
+    }
+
+    void setRoot(Node n) { // Remplace le monde par le quadtree n (centré sur (0,0)) ; la génération est conservée
+        if (n.level < 3) throw new IllegalArgumentException("root level must be >= 3"); // Même minimum que clear()
+        root = n; // Nouveau monde
+    }
+
+    public void forEachAlive(CellVisitor visitor) { // Parcourt toutes les cellules vivantes
+        long half = 1L << (root.level - 1); // Demi-côté de la racine
+        visit(root, -half, -half, visitor); // Descend depuis le coin supérieur gauche de l'univers
+    }
+
+    public void forEachAliveIn(int r0, int c0, int r1, int c1, CellVisitor visitor) { // Cellules vivantes d'un rectangle
+        long half = 1L << (root.level - 1); // Demi-côté de la racine
+        visitIn(root, -half, -half, r0, c0, r1, c1, visitor); // Descend en élaguant les quadrants hors du rectangle
+    }
+
+    private void visitIn(Node n, long top, long left, int r0, int c0, int r1, int c1, CellVisitor visitor) { // Descente élaguée
+        long size = 1L << n.level; // Côté du nœud
+        if (n.population == 0 || top >= r1 || left >= c1 || top + size <= r0 || left + size <= c0) return; // Vide ou hors zone
+        if (n.level == 0) { visitor.visit((int) top, (int) left); return; } // Cellule vivante dans le rectangle
+        long half = size >> 1; // Demi-côté
+        visitIn(n.nw, top, left, r0, c0, r1, c1, visitor); visitIn(n.ne, top, left + half, r0, c0, r1, c1, visitor); // Haut
+        visitIn(n.sw, top + half, left, r0, c0, r1, c1, visitor); visitIn(n.se, top + half, left + half, r0, c0, r1, c1, visitor); // Bas
+    }
+
+    public void countAlive(int r0, int c0, int shift, int rows, int cols, int[] out) { // Comptage par blocs via les populations
+        long half = 1L << (root.level - 1); // Demi-côté de la racine
+        count(root, -half, -half, r0, c0, shift, rows, cols, out); // Descend jusqu'à la taille d'un bloc
+    }
+
+    private void count(Node n, long top, long left, int r0, int c0, int shift, int rows, int cols, int[] out) { // Cumul par bloc
+        long size = 1L << n.level; // Côté du nœud
+        long r1 = r0 + ((long) rows << shift), c1 = c0 + ((long) cols << shift); // Bornes exclues de la zone
+        if (n.population == 0 || top >= r1 || left >= c1 || top + size <= r0 || left + size <= c0) return; // Vide ou hors zone
+        if (n.level <= shift) { // Le nœud tient dans un seul bloc (origine de la zone alignée sur 2^shift)
+            out[(int) ((top - r0) >> shift) * cols + (int) ((left - c0) >> shift)] += (int) n.population; // Sa population d'un coup
+            return; // Inutile de descendre
+        }
+        long half = size >> 1; // Demi-côté
+        count(n.nw, top, left, r0, c0, shift, rows, cols, out); count(n.ne, top, left + half, r0, c0, shift, rows, cols, out); // Haut
+        count(n.sw, top + half, left, r0, c0, shift, rows, cols, out); count(n.se, top + half, left + half, r0, c0, shift, rows, cols, out); // Bas
+    }
+
+    private void visit(Node n, long r0, long c0, CellVisitor visitor) { // Parcourt les cellules vivantes d'un nœud
+        if (n.population == 0) return; // Sous-arbre vide : rien à visiter
+        if (n.level == 0) { // Cellule vivante
+            if (r0 == (int) r0 && c0 == (int) c0) visitor.visit((int) r0, (int) c0); // Ignore ce qui sort des coordonnées int
+            return; // Terminé
+        }
+        long half = 1L << (n.level - 1); // Demi-côté du nœud
+        visit(n.nw, r0, c0, visitor); visit(n.ne, r0, c0 + half, visitor); // Quadrants du haut
+        visit(n.sw, r0 + half, c0, visitor); visit(n.se, r0 + half, c0 + half, visitor); // Quadrants du bas
+    }
+
+    public void advance(long generations) { // Avance d'un nombre exact de générations (décomposé en puissances de 2)
+        for (int k = 62; k >= 0; k--) { // Du plus grand bit au plus petit
+            if ((generations >>> k & 1L) != 0) stepPow(k); // Un saut de 2^k générations par bit posé
+        }
+    }
+
+    private void stepPow(int k) { // Avance de 2^k générations en un seul calcul de successeur
+        if (k > MAX_LEVEL - 3) throw new IllegalArgumentException("step too large: 2^" + k); // Coordonnées hors d'un long
+        // Le motif doit tenir dans le carré central du quart central et la racine être assez grande pour le pas :
+        // en 2^k générations il ne peut alors pas sortir du centre renvoyé par successor().
+        while (root.level < k + 3 || innerPopulation(root) != root.population) root = expand(root); // Agrandit
+        root = successor(root, k); // Centre avancé de 2^k générations (un niveau de moins, même centre)
+        generation += 1L << k; // Génération exacte atteinte
+    }
+
+    private Node successor(Node n, int k) { // Centre de n (niveau-1) avancé de 2^k générations, k <= niveau-2
+        if (n.population == 0) return empty(n.level - 1); // Rien ne naît du vide
+        int level = n.level; // Niveau du nœud
+        if (n.ruleEpoch != ruleEpoch) { n.result = null; n.stepped = null; n.steppedLog = -1; n.ruleEpoch = ruleEpoch; } // Calculés sous une autre règle
+        boolean full = k == level - 2; // Pas maximal pour ce niveau ?
+        if (full) { if (n.result != null) return n.result; } // Résultat déjà mémorisé
+        else if (n.steppedLog == k && n.stepped != null) return n.stepped; // Même pas déjà calculé
+        Node res; // Résultat à calculer
+        if (level == 2) { // Carré 4x4 : table précalculée
+            res = smallResults[base[bits4x4(n)] & 0xf]; // Centre 2x2 après une génération
+        } else {
+            // Les 9 sous-carrés de niveau-1 qui se chevauchent
+            Node n00 = n.nw, n01 = horizontal(n.nw, n.ne), n02 = n.ne; // Rangée du haut
+            Node n10 = vertical(n.nw, n.sw), n11 = centre(n), n12 = vertical(n.ne, n.se); // Rangée du milieu
+            Node n20 = n.sw, n21 = horizontal(n.sw, n.se), n22 = n.se; // Rangée du bas
+            Node a00, a01, a02, a10, a11, a12, a20, a21, a22; // Les 9 sous-résultats de niveau-2
+            if (full) { // Pas maximal : deux demi-pas de 2^(level-3)
+                a00 = successor(n00, k - 1); a01 = successor(n01, k - 1); a02 = successor(n02, k - 1); // Premier demi-pas
+                a10 = successor(n10, k - 1); a11 = successor(n11, k - 1); a12 = successor(n12, k - 1);
+                a20 = successor(n20, k - 1); a21 = successor(n21, k - 1); a22 = successor(n22, k - 1);
+            } else { // Pas plus petit : on recentre sans avancer, puis un seul pas de 2^k
+                a00 = centre(n00); a01 = centre(n01); a02 = centre(n02); // Centres sans avancer le temps
+                a10 = centre(n10); a11 = centre(n11); a12 = centre(n12);
+                a20 = centre(n20); a21 = centre(n21); a22 = centre(n22);
+            }
+            int k2 = full ? k - 1 : k; // Pas restant pour le second étage
+            res = node( // Assemble les 4 quadrants du résultat
+                    successor(node(a00, a01, a10, a11), k2), // Quadrant nord-ouest
+                    successor(node(a01, a02, a11, a12), k2), // Quadrant nord-est
+                    successor(node(a10, a11, a20, a21), k2), // Quadrant sud-ouest
+                    successor(node(a11, a12, a21, a22), k2)); // Quadrant sud-est
+        }
+        if (full) n.result = res; // Mémorise le résultat au pas maximal
+        else { n.stepped = res; n.steppedLog = k; } // Mémorise le résultat pour ce pas
+        return res; // Résultat
+    }
+
+    private static int bits4x4(Node n) { // Encode un nœud de niveau 2 en masque 16 bits (bit r*4+c)
+        int m = 0; // Masque résultat
+        Node[] q = { n.nw, n.ne, n.sw, n.se }; // Quadrants de niveau 1
+        for (int i = 0; i < 4; i++) { // Pour chaque quadrant
+            int r0 = (i >> 1) * 2, c0 = (i & 1) * 2; // Coin du quadrant dans le carré 4x4
+            Node s = q[i]; // Quadrant de niveau 1
+            if (s.nw.population != 0) m |= 1 << (r0 * 4 + c0); // Cellule nord-ouest
+            if (s.ne.population != 0) m |= 1 << (r0 * 4 + c0 + 1); // Cellule nord-est
+            if (s.sw.population != 0) m |= 1 << ((r0 + 1) * 4 + c0); // Cellule sud-ouest
+            if (s.se.population != 0) m |= 1 << ((r0 + 1) * 4 + c0 + 1); // Cellule sud-est
+        }
+        return m; // Masque des 16 cellules
+    }
+
+    private Node cell(int bits, int i) { return (bits >> i & 1) != 0 ? live : dead; } // Cellule i d'un masque 2x2
+
+    private Node horizontal(Node w, Node e) { return node(w.ne, e.nw, w.se, e.sw); } // Carré à cheval sur w et e
+    private Node vertical(Node n, Node s) { return node(n.sw, n.se, s.nw, s.ne); } // Carré à cheval sur n et s
+    private Node centre(Node n) { return node(n.nw.se, n.ne.sw, n.sw.ne, n.se.nw); } // Carré central (niveau-1)
+
+    private static long innerPopulation(Node n) { // Population du carré central du quart central (niveau-2)
+        return n.nw.se.se.population + n.ne.sw.sw.population + n.sw.ne.ne.population + n.se.nw.nw.population;
+    }
+
+    private Node expand(Node n) { // Double la taille de l'univers en gardant le même centre
+        if (n.level >= MAX_LEVEL) throw new IllegalStateException("universe too large"); // Limite des coordonnées
+        Node e = empty(n.level - 1); // Quadrant vide de niveau n-1
+        return node(node(e, e, e, n.nw), node(e, e, n.ne, e), // Moitié nord : l'ancien nord-ouest/nord-est au centre
+                node(e, n.sw, e, e), node(n.se, e, e, e)); // Moitié sud
+    }
+
+    private static boolean contains(Node n, int r, int c) { // La cellule (r,c) est-elle dans l'univers de n ?
+        long half = 1L << (n.level - 1); // Demi-côté
+        return r >= -half && r < half && c >= -half && c < half; // Carré [-half, half) centré sur 0
+    }
+
+    private Node set(Node n, long y, long x, Node cell) { // Copie de n avec la cellule (y,x) remplacée
+        if (n.level == 0) return cell; // Feuille : nouvelle valeur
+        long half = 1L << (n.level - 1); // Demi-côté
+        if (y < half) { // Moitié haute
+            if (x < half) return node(set(n.nw, y, x, cell), n.ne, n.sw, n.se); // Quadrant nord-ouest
+            return node(n.nw, set(n.ne, y, x - half, cell), n.sw, n.se); // Quadrant nord-est
+        }
+        if (x < half) return node(n.nw, n.ne, set(n.sw, y - half, x, cell), n.se); // Quadrant sud-ouest
+        return node(n.nw, n.ne, n.sw, set(n.se, y - half, x - half, cell)); // Quadrant sud-est
+    }
+
+    private Node empty(int level) { // Nœud vide canonique du niveau demandé
+        if (level == 0) return dead; // Cellule morte
+        Node e = empties[level]; // Déjà construit ?
+        if (e == null) { // Construit récursivement
+            Node sub = empty(level - 1); // Quadrant vide
+            e = node(sub, sub, sub, sub); // Carré vide
+            empties[level] = e; // Mémorise
+        }
+        return e; // Nœud vide
+    }
+
+    private Node node(Node nw, Node ne, Node sw, Node se) { // Nœud canonique ayant ces quadrants
+        int h = hash(nw, ne, sw, se); // Hachage des identifiants des quadrants
+        int i = h & (table.length - 1); // Compartiment
+        for (Node n = table[i]; n != null; n = n.chain) { // Parcourt la chaîne
+            if (n.nw == nw && n.ne == ne && n.sw == sw && n.se == se) return n; // Déjà présent : on le partage
+        }
+        if (count >= gcThreshold) { collect(); i = h & (table.length - 1); } // Cache plein : purge (même en plein calcul)
+        Node n = new Node(nextId++, nw, ne, sw, se); // Nouveau nœud
+        n.chain = table[i]; table[i] = n; // Insère en tête de chaîne
+        if (++count > table.length - (table.length >> 2)) resize(); // Agrandit la table au-delà de 75 %
+        return n; // Nœud canonique
+    }
+
+    private static int hash(Node nw, Node ne, Node sw, Node se) { // Combine les identifiants des quadrants
+        long h = nw.id; // Part du quadrant nord-ouest
+        h = h * 0x9E3779B97F4A7C15L + ne.id; // Mélange avec le nord-est
+        h = h * 0x9E3779B97F4A7C15L + sw.id; // Puis le sud-ouest
+        h = h * 0x9E3779B97F4A7C15L + se.id; // Puis le sud-est
+        return (int) (h ^ (h >>> 29)); // Replie sur 32 bits
+    }
+
+    private void resize() { // Double la table de hachage
+        Node[] old = table; // Ancienne table
+        table = new Node[old.length << 1]; // Nouvelle table
+        for (Node head : old) { // Redistribue chaque chaîne
+            for (Node n = head; n != null; ) { // Parcourt la chaîne
+                Node next = n.chain; // Sauvegarde le suivant
+                int i = hash(n.nw, n.ne, n.sw, n.se) & (table.length - 1); // Nouveau compartiment
+                n.chain = table[i]; table[i] = n; // Insère en tête
+                n = next; // Nœud suivant
+            }
+        }
+    }
+
+    // Éviction : ne garde que les nœuds accessibles depuis la racine (et les nœuds canoniques permanents),
+    // et oublie les résultats mémorisés qui pointent vers des nœuds évincés pour que le tas reste borné.
+    // Elle peut survenir au milieu d'un successor() : les nœuds en cours de calcul restent valides (références Java),
+    // ils perdent seulement leur unicité, ce qui coûte des recalculs mais jamais de résultat faux.
+    private void collect() {
+        epoch++; // Nouvelle époque de marquage
+        mark(root); // Marque le monde courant
+        for (Node e : empties) if (e != null) mark(e); // Garde les nœuds vides canoniques
+        for (Node s : smallResults) mark(s); // Garde les nœuds de niveau 1
+        int kept = 0; // Nombre de nœuds conservés
+        Node[] old = table; // Table à filtrer
+        for (int i = 0; i < old.length; i++) { // Pour chaque compartiment
+            Node head = null; // Nouvelle chaîne
+            for (Node n = old[i]; n != null; ) { // Parcourt l'ancienne chaîne
+                Node next = n.chain; // Sauvegarde le suivant
+                if (n.mark == epoch) { // Nœud conservé
+                    if (n.result != null && n.result.mark != epoch) n.result = null; // Oublie un résultat évincé
+                    if (n.stepped != null && n.stepped.mark != epoch) { n.stepped = null; n.steppedLog = -1; } // Idem
+                    n.chain = head; head = n; kept++; // Réinsère dans la chaîne
+                } else {
+                    n.chain = null; // Détache le nœud évincé
+                }
+                n = next; // Nœud suivant
+            }
+            old[i] = head; // Chaîne filtrée
+        }
+        count = kept; // Nouveau nombre de nœuds
+        gcThreshold = Math.max(maxNodes, kept + (kept >> 1)); // Si le monde lui-même dépasse le cache, laisse de la marge
+    }
+
+    private void mark(Node n) { // Marque un nœud et tous ses descendants
+        if (n.mark == epoch || n.level == 0) return; // Déjà marqué (sous-arbre partagé) ou cellule
+        n.mark = epoch; // Marque le nœud
+        mark(n.nw); mark(n.ne); mark(n.sw); mark(n.se); // Marque les quadrants
+    }
+} // Fin de la classe HashLife
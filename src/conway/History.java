@@ -0,0 +1,153 @@
+package conway;
+
+import java.util.Arrays; // Importe Arrays pour agrandir les tables d'entrées
+
+// Historique de retour en arrière : un anneau borné des différences entre états successifs du moteur.
+// Chaque entrée est l'ensemble des cellules qui ont changé d'état (naissances et morts confondues) lors d'un pas
+// ou d'une modification, avec la génération d'avant : revenir en arrière consiste à réinverser ces cellules,
+// sans recalculer depuis le début. La mémoire est plafonnée : les entrées les plus anciennes sont oubliées.
+// Les différences viennent du journal du moteur (setCellLogging) : chaque pas y note ses naissances et ses morts,
+// chaque modification ses cellules, sans parcourir le monde. Un moteur sans journal (HashLife, dont les pas sautent
+// des générations entières) est suivi par comparaison : l'état enregistré est alors gardé en miroir et, au-delà
+// d'une population que le plafond ne permet pas de suivre, l'historique est suspendu (et vidé) plutôt que de déborder.
+// L'anneau part petit et double à la demande jusqu'au plafond, comme les tables d'entrées et le journal du moteur.
+final class History { // Utilisé uniquement par le thread de simulation
+    private static final int INITIAL_RING = 1024; // Taille de départ de l'anneau
+    private long[] ring; // Cellules changées (clés r,c) de toutes les entrées, à la suite et en anneau
+    private final int maxRing; // Taille maximale de l'anneau (moitié du plafond)
+    private final int maxEntries; // Nombre maximal d'entrées (même vides, leurs en-têtes comptent dans le plafond)
+    private final long maxPopulation; // Population au-delà de laquelle le miroir coûterait plus que le plafond
+    private boolean logged; // Le moteur tient le journal des cellules changées (sinon : comparaison avec le miroir)
+    private int ringStart, ringUsed; // Début de la plus ancienne entrée et nombre de cases occupées
+    private long[] generations = new long[64]; // Génération d'avant chaque entrée (anneau, comme les deux suivants)
+    private int[] lengths = new int[64]; // Nombre de cellules de chaque entrée
+    private int first, count; // Plus ancienne entrée et nombre d'entrées
+    private LongHashSet recorded; // Cellules vivantes de l'état enregistré (moteur sans journal, sinon null)
+    private LongHashSet current; // Cellules vivantes de l'état courant (réutilisé ; moteur sans journal, sinon null)
+    private long recordedGeneration; // Génération de l'état enregistré
+    private long[] delta = new long[256]; // Différence en cours de calcul (réutilisée)
+    private int deltaSize; // Taille de la différence en cours
+    private boolean suspended; // Population trop grande : rien n'est enregistré
+
+    History(long maxBytes) { // Historique occupant au plus maxBytes environ (différences + journal ou miroir)
+        if (maxBytes < 1024) throw new IllegalArgumentException("maxBytes must be >= 1024"); // Plafond minimal raisonnable
+        this.maxRing = (int) Math.min(Integer.MAX_VALUE - 8, maxBytes / 2 / 8); // Moitié du plafond pour les différences
+        this.ring = new long[Math.min(INITIAL_RING, maxRing)]; // Alloué petit, agrandi à la demande
+        this.maxEntries = Math.max(1, maxRing / 8); // En-têtes : au plus 1,5 octet par case de l'anneau plein
+        this.maxPopulation = maxBytes / 2 / 32; // L'autre moitié pour le journal, ou le miroir (deux ensembles à ~16 octets par cellule)
+    }
+
+    int size() { return count; } // Nombre de pas pouvant être annulés
+
+    void record(LifeEngine life) { // Enregistre la différence entre l'état enregistré et l'état courant
+        if (!logged) { compare(life); return; } // Moteur sans journal : comparaison des états complets
+        deltaSize = 0; // Repart d'une différence vide
+        boolean known = life.drainCells((r, c) -> append(key(r, c))); // Cellules changées depuis l'enregistrement
+        if (!known) clearEntries(); // Journal débordé : la différence n'aurait pas tenu dans l'anneau, l'historique repart de zéro
+        else if (deltaSize > 0 || life.getGeneration() != recordedGeneration) push(deltaSize); // Nouvelle entrée (même vide si le temps a avancé)
+        recordedGeneration = life.getGeneration(); // Génération de référence
+    }
+
+    private void compare(LifeEngine life) { // Différence calculée en comparant l'état courant au miroir
+        if (life.getPopulation() > maxPopulation) { // Trop de cellules à suivre
+            if (!suspended) { clearEntries(); recorded.clear(); current.clear(); suspended = true; } // Libère tout
+            return; // Rien n'est enregistré
+        }
+        LongHashSet now = current; // État courant à construire
+        now.clear(); // Repart d'un ensemble vide
+        life.forEachAlive((r, c) -> now.add(key(r, c))); // Recense les cellules vivantes
+        if (suspended) { swap(life); suspended = false; return; } // Reprise : nouvel état de référence, sans différence connue
+        deltaSize = 0; // Repart d'une différence vide
+        for (int s = 0, slots = now.slots(); s < slots; s++) { // Naissances : vivantes maintenant, pas avant
+            if (now.used(s) && !recorded.contains(now.keyAt(s))) append(now.keyAt(s)); // Cellule née
+        }
+        for (int s = 0, slots = recorded.slots(); s < slots; s++) { // Morts : vivantes avant, plus maintenant
+            if (recorded.used(s) && !now.contains(recorded.keyAt(s))) append(recorded.keyAt(s)); // Cellule morte
+        }
+        if (deltaSize > 0 || life.getGeneration() != recordedGeneration) push(deltaSize); // Nouvelle entrée (même vide si le temps a avancé)
+        swap(life); // L'état courant devient l'état enregistré
+    }
+
+    int rewind(LifeEngine life, int steps) { // Annule jusqu'à steps entrées ; renvoie le nombre annulé
+        record(life); // Les modifications encore non enregistrées forment la première entrée à annuler
+        int done = 0; // Entrées annulées
+        for (; done < steps && count > 0; done++) { // De la plus récente à la plus ancienne
+            int e = (first + count - 1) % lengths.length; // Entrée la plus récente
+            int len = lengths[e]; // Nombre de cellules
+            int start = (ringStart + ringUsed - len) % ring.length; // Début de l'entrée dans l'anneau
+            for (int i = 0; i < len; i++) { // Réinverse chaque cellule
+                long k = ring[(start + i) % ring.length]; // Cellule changée
+                life.toggle((int) (k >> 32), (int) k); // Retour à l'état d'avant
+                if (!logged && !recorded.remove(k)) recorded.add(k); // Le miroir suit
+            }
+            recordedGeneration = generations[e]; // Génération d'avant
+            life.setGeneration(recordedGeneration); // Le moteur y revient aussi
+            ringUsed -= len; count--; // Oublie l'entrée
+        }
+        if (logged) life.drainCells((r, c) -> { }); // Le journal a noté les cellules réinversées : déjà connues
+        return done; // Entrées annulées
+    }
+
+    void clear(LifeEngine life) { // Oublie tout l'historique ; l'état courant devient la référence
+        clearEntries(); // Plus rien à annuler
+        if (ring.length > INITIAL_RING) ring = new long[Math.min(INITIAL_RING, maxRing)]; // Rend la mémoire de l'anneau agrandi
+        life.setCellLogging(maxRing); // Journal d'au plus un anneau plein entre deux enregistrements
+        logged = life.drainCells((r, c) -> { }); // Vide le journal ; false : le moteur n'en tient pas
+        recordedGeneration = life.getGeneration(); // Génération de référence
+        if (logged) { recorded = current = null; suspended = false; return; } // Aucun miroir nécessaire
+        if (recorded == null) { recorded = new LongHashSet(); current = new LongHashSet(); } // Ensembles du miroir
+        suspended = life.getPopulation() > maxPopulation; // Suivi possible ?
+        recorded.clear(); // Nouveau miroir
+        if (!suspended) life.forEachAlive((r, c) -> recorded.add(key(r, c))); // Recense l'état courant
+    }
+
+    private void append(long k) { // Ajoute une cellule à la différence en cours
+        if (deltaSize == delta.length) delta = Arrays.copyOf(delta, deltaSize * 2); // Agrandit le tampon
+        delta[deltaSize++] = k; // Cellule changée
+    }
+
+    private void push(int n) { // Ajoute la différence calculée comme entrée la plus récente
+        if (n > maxRing) { clearEntries(); return; } // Plus grande que tout l'anneau : l'historique repart de zéro
+        if (ringUsed + n > ring.length && ring.length < maxRing) growRing(ringUsed + n); // Agrandit avant d'oublier quoi que ce soit
+        while (ringUsed + n > ring.length || count >= maxEntries) dropOldest(); // Place insuffisante : oublie les plus anciennes
+        if (count == lengths.length) grow(); // Table des entrées pleine : l'agrandit
+        int start = (ringStart + ringUsed) % ring.length; // Première case libre
+        int head = Math.min(n, ring.length - start); // Cases disponibles avant le bout du tableau
+        System.arraycopy(delta, 0, ring, start, head); // Première partie
+        System.arraycopy(delta, head, ring, 0, n - head); // Suite au début du tableau
+        ringUsed += n; // Cases occupées
+        int e = (first + count) % lengths.length; // Nouvelle entrée
+        generations[e] = recordedGeneration; lengths[e] = n; count++; // Génération d'avant et taille
+    }
+
+    private void dropOldest() { // Oublie l'entrée la plus ancienne
+        int len = lengths[first]; // Cellules de l'entrée
+        ringStart = (ringStart + len) % ring.length; ringUsed -= len; // Libère ses cases
+        first = (first + 1) % lengths.length; count--; // Entrée suivante
+    }
+
+    private void grow() { // Double la table des entrées en conservant leur ordre
+        long[] g = new long[generations.length * 2]; int[] l = new int[lengths.length * 2]; // Nouvelles tables
+        for (int i = 0; i < count; i++) { g[i] = generations[(first + i) % lengths.length]; l[i] = lengths[(first + i) % lengths.length]; } // Recopie
+        generations = g; lengths = l; first = 0; // Remplace
+    }
+
+    private void growRing(int need) { // Agrandit l'anneau (au moins need cases, au plus maxRing) en conservant l'ordre
+        long[] r = new long[(int) Math.min(maxRing, Math.max(need, 2L * ring.length))]; // Nouvel anneau
+        int head = Math.min(ringUsed, ring.length - ringStart); // Cases occupées avant le bout du tableau
+        System.arraycopy(ring, ringStart, r, 0, head); // Première partie
+        System.arraycopy(ring, 0, r, head, ringUsed - head); // Suite au début du tableau
+        ring = r; ringStart = 0; // Remplace ; la plus ancienne entrée commence au début
+    }
+
+    private void clearEntries() { ringStart = ringUsed = 0; first = count = 0; } // Vide l'anneau
+
+    private void swap(LifeEngine life) { // L'ensemble courant devient l'état enregistré
+        LongHashSet t = recorded; recorded = current; current = t; // Échange sans allocation
+        recordedGeneration = life.getGeneration(); // Génération de référence
+    }
+
+    private static long key(int r, int c) { // Encode une paire (r,c) dans un long
+        return (((long) r) << 32) ^ (((long) c) & 0xffffffffL); // Même encodage que GameOfLife
+    }
+} // Fin de la classe History
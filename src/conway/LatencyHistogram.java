@@ -0,0 +1,53 @@
+package conway;
+
+import java.util.Arrays; // Importe Arrays pour remettre les compteurs à zéro
+
+// Histogramme de durées à précision relative bornée : chaque puissance de 2 (en nanosecondes) est découpée en
+// SUB tranches égales, si bien qu'un centile est connu à 1/SUB près (12,5 %) de 1 ns à plusieurs siècles,
+// dans un tableau fixe de 512 compteurs. Enregistrer une valeur ne coûte que quelques opérations, sans allocation.
+// Un seul thread écrit (simulation ou EDT), d'autres lisent (JMX, IHM) : les accès sont synchronisés sur l'instance.
+final class LatencyHistogram { // Centiles approchés d'une suite de durées
+    private static final int SUB_BITS = 3; // log2 du nombre de tranches par puissance de 2
+    private static final int SUB = 1 << SUB_BITS; // Tranches par puissance de 2
+
+    private final long[] counts = new long[64 * SUB]; // Compteur de chaque tranche
+    private long total; // Nombre de valeurs enregistrées
+    private long sum; // Somme des valeurs (moyenne)
+    private long max; // Plus grande valeur
+
+    synchronized void record(long nanos) { // Ajoute une durée
+        if (nanos < 0) nanos = 0; // Horloge non monotone : durée nulle
+        counts[index(nanos)]++; // Tranche de la valeur
+        total++; sum += nanos; // Nombre et somme
+        if (nanos > max) max = nanos; // Maximum
+    }
+
+    synchronized long count() { return total; } // Nombre de valeurs
+    synchronized long max() { return max; } // Plus grande valeur (ns)
+    synchronized double mean() { return total == 0 ? 0 : (double) sum / total; } // Moyenne (ns)
+
+    synchronized long percentile(double p) { // Valeur sous laquelle se trouvent p % des durées (borne haute de la tranche)
+        if (total == 0) return 0; // Aucune mesure
+        long rank = (long) Math.ceil(total * Math.min(100, Math.max(0, p)) / 100.0); // Rang recherché (1..total)
+        long seen = 0; // Valeurs cumulées
+        for (int i = 0; i < counts.length; i++) { // Tranches croissantes
+            seen += counts[i]; // Cumule
+            if (seen >= Math.max(1, rank)) return Math.min(max, upper(i)); // Tranche du rang
+        }
+        return max; // Inatteignable
+    }
+
+    synchronized void reset() { Arrays.fill(counts, 0); total = sum = max = 0; } // Oublie toutes les mesures
+
+    private static int index(long v) { // Tranche d'une valeur
+        if (v < SUB) return (int) v; // Petites valeurs : une tranche par nanoseconde
+        int e = 63 - Long.numberOfLeadingZeros(v); // Puissance de 2 (e >= SUB_BITS)
+        return (e - SUB_BITS + 1) * SUB + (int) (v >>> (e - SUB_BITS) & (SUB - 1)); // Bloc de la puissance, puis tranche
+    }
+
+    private static long upper(int i) { // Plus grande valeur de la tranche i
+        if (i < SUB) return i; // Tranches unitaires
+        int e = i / SUB - 1 + SUB_BITS, sub = i % SUB; // Puissance de 2 et tranche
+        return (1L << e) + ((long) (sub + 1) << (e - SUB_BITS)) - 1; // Borne haute
+    }
+} // Fin de la classe LatencyHistogram
@@ -0,0 +1,88 @@
+package conway;
+
+// Opérations communes à tous les moteurs de simulation (monde clairsemé, tuiles bit-packées, ...).
+// L'IHM (LifePanel, ControlPanel) ne dépend que de cette interface : le moteur est choisi au démarrage.
+// Les moteurs simulent un monde infini, sauf DenseLife dont le monde est limité à sa zone par défaut (isBounded).
+public interface LifeEngine { // Contrat d'un moteur du Jeu de la vie
+    int getRows(); // Nombre de lignes de la zone par défaut (utilisée par randomize() ; limite du monde s'il est fini)
+    int getCols(); // Nombre de colonnes de la zone par défaut (idem)
+    default boolean isBounded() { return false; } // Monde fini : seule la zone par défaut, centrée en (0,0), existe
+    long getGeneration(); // Index de génération actuel
+    void setGeneration(long generation); // Impose l'index de génération (reprise d'une sauvegarde, retour en arrière)
+    long getPopulation(); // Nombre de cellules vivantes
+    Rule getRule(); // Règle de naissance/survie simulée (Conway par défaut)
+    void setRule(Rule rule); // Change la règle ; l'état courant est conservé
+
+    boolean isAlive(int r, int c); // Indique si la cellule (r,c) est vivante
+    void setAlive(int r, int c, boolean makeAlive); // Force l'état (vivant/mort) d'une cellule (ignoré hors d'un monde fini)
+    void toggle(int r, int c); // Inverse l'état d'une cellule
+    void clear(); // Efface tout le monde et remet la génération à 0
+    void randomize(double density); // Remplit aléatoirement la zone par défaut avec une densité [0..1]
+    void step(); // Avance d'une génération
+    void forEachAlive(CellVisitor visitor); // Parcourt toutes les cellules vivantes (ordre non spécifié)
+    void forEachAliveIn(int r0, int c0, int r1, int c1, CellVisitor visitor); // Idem, limité à r0<=r<r1 et c0<=c<c1
+
+    // Compte les cellules vivantes par blocs de 2^shift x 2^shift : out[i*cols+j] reçoit le bloc dont le coin est
+    // (r0 + i*2^shift, c0 + j*2^shift). r0 et c0 doivent être multiples de 2^shift (les moteurs hiérarchiques s'en servent).
+    default void countAlive(int r0, int c0, int shift, int rows, int cols, int[] out) {
+        int r1 = (int) Math.min(Integer.MAX_VALUE, r0 + ((long) rows << shift)); // Borne basse exclue de la zone
+        int c1 = (int) Math.min(Integer.MAX_VALUE, c0 + ((long) cols << shift)); // Borne droite exclue de la zone
+        forEachAliveIn(r0, c0, r1, c1, (r, c) -> out[((r - r0) >>> shift) * cols + ((c - c0) >>> shift)]++); // Cumule par bloc
+    }
+
+    interface CellVisitor { void visit(int r, int c); } // Reçoit les coordonnées d'une cellule vivante
+
+    // Index spatial : forEachAliveIn coûte selon la zone demandée (tuiles, quadtree, grille). Sans index, une requête
+    // sur une grande zone parcourt tout le monde, et les parcours ordonnés (écriture des fichiers) trient plutôt les clés.
+    default boolean hasSpatialIndex() { return true; } // false : forEachAliveIn parcourt l'ensemble des vivants
+
+    // Suivi des zones modifiées (rendu incrémental) : une fois activé, le moteur accumule des rectangles couvrant
+    // toutes les cellules dont l'état a changé depuis le dernier drainChanges. Désactivé, il ne coûte rien.
+    default void setChangeTracking(boolean on) { } // Active/désactive le suivi (sans effet si non supporté)
+    default boolean drainChanges(RegionVisitor visitor) { return false; } // Transmet et oublie les zones ; false = inconnues
+
+    interface RegionVisitor { void visit(int r0, int c0, int r1, int c1); } // Reçoit un rectangle [r0,r1)x[c0,c1)
+
+    // Journal des cellules changées (historique de retour en arrière) : une fois activé, le moteur note chaque cellule
+    // dont l'état a changé (naissance, mort, modification) depuis le dernier drainCells, au plus limit cellules ; une
+    // cellule changée plusieurs fois peut figurer plusieurs fois. Désactivé (limit = 0), il ne coûte rien.
+    default void setCellLogging(int limit) { } // Active (limit > 0) ou désactive (0) le journal (sans effet si non supporté)
+    default boolean drainCells(CellVisitor visitor) { return false; } // Transmet et oublie les cellules ; false = inconnues
+
+    // Détection des cycles : une fois activée, le moteur repère un état qui se répète (éventuellement translaté),
+    // et advance() peut alors sauter les cycles complets sans les calculer. Désactivée, elle ne coûte rien.
+    default void setCycleDetection(boolean on) { } // Active/désactive la détection (sans effet si non supportée)
+    default Cycle getCycle() { return null; } // Cycle confirmé de l'état courant (null : aucun ou non suivi)
+
+    // Comptage des naissances (mesures) : une fois activé, getBirths() cumule les cellules nées à chaque génération
+    // calculée ; les morts s'en déduisent avec la population. Les générations sautées d'un cycle ne sont pas comptées.
+    default void setBirthCounting(boolean on) { } // Active/désactive le comptage (sans effet si non supporté)
+    default long getBirths() { return -1; } // Naissances cumulées depuis l'activation (-1 : non comptées)
+
+    default void advance(long generations) { // Avance d'un nombre exact de générations
+        for (long i = 0; i < generations; i++) step(); // Par défaut : une génération à la fois
+    }
+
+    default int maxStepLog() { return 0; } // Plus grand k tel qu'un pas de 2^k générations soit rapide (0 = pas unitaire)
+
+    default int maxThreads() { return 1; } // Nombre maximal de threads de calcul proposé (1 = moteur séquentiel)
+    default int getThreads() { return 1; } // Nombre de threads de calcul utilisés
+
+    default void setThreads(int threads) { // Choisit le nombre de threads de calcul
+        if (threads != 1) throw new UnsupportedOperationException("sequential engine"); // Les moteurs séquentiels refusent
+    }
+
+    static LifeEngine create(String name, int rows, int cols) { // Fabrique un moteur à partir de son nom
+        if (name == null || name.isEmpty() || name.equalsIgnoreCase("sparse")) return new GameOfLife(rows, cols); // Moteur clairsemé (par défaut)
+        if (name.equalsIgnoreCase("tiled")) return new TiledLife(rows, cols); // Moteur à tuiles bit-packées
+        if (name.equalsIgnoreCase("parallel")) { // Moteur à tuiles calculées sur tous les cœurs
+            TiledLife t = new TiledLife(rows, cols); // Même moteur que « tiled »
+            t.setThreads(t.maxThreads()); // Un thread par cœur
+            return t; // Moteur parallèle
+        }
+        if (name.equalsIgnoreCase("hashlife")) return new HashLife(rows, cols); // Quadtree mémoïsé (pas de 2^k)
+        if (name.equalsIgnoreCase("dense")) return new DenseLife(rows, cols, false); // Monde fini de rows x cols, bord mort
+        if (name.equalsIgnoreCase("torus")) return new DenseLife(rows, cols, true); // Monde fini refermé en tore
+        throw new IllegalArgumentException("unknown engine: " + name); // Nom inconnu
+    }
+} // Fin de l'interface LifeEngine
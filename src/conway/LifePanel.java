@@ -0,0 +1,400 @@
+package conway;
+
+import javax.swing.*; // Importe les classes Swing (JComponent, JPanel, JFrame, etc.)
+import java.awt.*; // Importe AWT pour les couleurs, graphiques, dimensions, curseurs
+import java.awt.event.MouseAdapter; // Importe l'adaptateur de souris pour gérer les événements de souris
+import java.awt.event.MouseEvent; // Importe la classe d'événement de souris
+import java.awt.event.ActionEvent; // Importe la classe d'événement d'action (utilisée par AbstractAction)
+import java.awt.event.MouseWheelEvent; // Importe l'événement de molette utilisé pour le zoom
+import java.awt.image.BufferedImage; // Importe l'image hors écran dans laquelle les cellules sont rastérisées
+import java.awt.image.DataBufferInt; // Importe l'accès direct aux pixels de l'image
+import java.util.Arrays; // Importe Arrays pour remplir les lignes de pixels
+
+public class LifePanel extends JPanel { // Panneau qui affiche la grille et gère les interactions utilisateur
+    private final Simulation sim; // Thread de simulation : reçoit les modifications et publie les photographies
+
+    // État du dessin
+    private boolean drawing = false; // Indique si l'utilisateur est en train de dessiner/effacer
+    private boolean drawState = true; // true = dessiner des cellules vivantes, false = effacer (mortes)
+
+    // Niveaux de zoom : zoom >= 0 indexe CELL_SIZES (pixels par cellule) ; zoom < 0 regroupe 2^-zoom x 2^-zoom cellules par pixel
+    private static final int[] CELL_SIZES = {1, 2, 3, 4, 6, 8, 12, 16, 20, 24, 32, 48, 64}; // Tailles de cellule proposées
+    private static final int MAX_SHIFT = 20; // Dézoom maximal : 2^20 cellules par pixel de côté
+    private static final int GRID_MIN_CELL = 6; // En dessous de cette taille de cellule, la grille est masquée
+    private static final int LIVE_RGB = new Color(32, 136, 203).getRGB(); // Couleur des cellules vivantes
+    private static final int BACKGROUND_RGB = Color.WHITE.getRGB(); // Couleur du fond
+    private static final int[] DENSITY_RGB = new int[256]; // Dégradé fond -> cellule pour les pixels agrégés
+
+    static { // Précalcule le dégradé des densités
+        for (int i = 0; i < 256; i++) { // Pour chaque niveau
+            int r = 255 + (32 - 255) * i / 255, g = 255 + (136 - 255) * i / 255, b = 255 + (203 - 255) * i / 255; // Interpolation
+            DENSITY_RGB[i] = 0xff000000 | r << 16 | g << 8 | b; // Couleur opaque
+        }
+    }
+
+    // État d'affichage/déplacement pour une grille « infinie »
+    private int zoom = 8; // Niveau de zoom courant (8 = cellules de 20 pixels)
+    private double viewRow = 0; // Ligne du monde (fractionnaire) sous le pixel en haut à gauche
+    private double viewCol = 0; // Colonne du monde (fractionnaire) sous le pixel en haut à gauche
+    private BufferedImage image; // Image hors écran réutilisée d'un rafraîchissement à l'autre
+    private int[] pixels; // Pixels de l'image, écrits directement
+
+    // Cache de rendu : l'image reste valable tant que la vue ne bouge pas ; seules les zones modifiées sont refaites
+    private boolean imageValid = false; // L'image correspond-elle à la vue courante et à la photographie rendered ?
+    private WorldSnapshot rendered; // Photographie dont l'image est le rendu
+    private int shift; // Agrégation du rendu : 2^shift cellules par pixel de côté
+    private int cellPx; // Pixels par cellule (ou par bloc) du rendu
+    private int startX, startY; // Pixel du coin du bloc (blockRow0, blockCol0), entre -cellPx et 0
+    private long blockRow0, blockCol0; // Bloc monde sous le pixel (0,0)
+
+    // Incrustation des mesures (SimulationMetrics) dans le coin haut-gauche, redessinée à chaque rafraîchissement
+    private boolean metricsOverlay = false; // Incrustation affichée ?
+    private final Rectangle overlayBounds = new Rectangle(); // Zone occupée par l'incrustation (à repeindre)
+    private long overlayPainted; // Date du dernier rafraîchissement de l'incrustation (ns)
+    private static final long OVERLAY_PERIOD_NS = 250_000_000L; // 4 rafraîchissements par seconde suffisent à la lecture
+
+    private boolean panning = false; // Indique si on est en mode « déplacement » de la vue
+    private Point lastMouse = null; // Dernière position de la souris pour calculer le déplacement
+
+    public LifePanel(Simulation sim) { // Constructeur: initialise les propriétés du panneau
+        this.sim = sim; // Stocke la référence de la simulation
+        setBackground(Color.WHITE); // Définit la couleur de fond du panneau
+        setPreferredSize(new Dimension(800, 600)); // Taille préférée de la zone d'affichage
+        setFocusable(true); // Permet au panneau de recevoir le focus clavier
+        setupKeyBindings(); // Configure les raccourcis clavier pour le déplacement
+        
+        MouseAdapter mouse = new MouseAdapter() { // Crée un adaptateur de souris pour gérer clics/drag
+            @Override
+            public void mousePressed(MouseEvent e) { // Appelé quand un bouton de la souris est pressé
+                requestFocusInWindow(); // Demande le focus pour capter les touches
+                if (SwingUtilities.isMiddleMouseButton(e) || e.isAltDown()) { // Si bouton du milieu ou Alt enfoncé
+                    // Démarrer le déplacement (panning)
+                    panning = true; // Active le mode déplacement
+                    lastMouse = e.getPoint(); // Mémorise la position initiale de la souris
+                    setCursor(Cursor.getPredefinedCursor(Cursor.MOVE_CURSOR)); // Change le curseur en « déplacement »
+                } else { // Sinon, on passe en mode dessin/effacement
+                    // Démarrer le dessin/effacement
+                    drawing = true; // Active le mode dessin
+                    drawState = SwingUtilities.isLeftMouseButton(e); // Bouton gauche = dessiner, droit = effacer
+                    applyAt(e.getX(), e.getY()); // Applique immédiatement à la position cliquée
+                }
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) { // Appelé lors du déplacement de la souris avec bouton enfoncé
+                if (panning) { // Si on déplace la vue
+                    if (lastMouse == null) { lastMouse = e.getPoint(); return; } // Sécurité si pas encore de position
+                    int dx = e.getX() - lastMouse.x; // Déplacement horizontal de la souris
+                    int dy = e.getY() - lastMouse.y; // Déplacement vertical de la souris
+                    panByPixels(-dx, -dy); // Fait défiler le contenu dans le même sens que le drag
+                    lastMouse = e.getPoint(); // Met à jour la dernière position de la souris
+                } else if (drawing) { // Sinon si on dessine
+                    applyAt(e.getX(), e.getY()); // Applique l'action (dessin/effacement) à la position actuelle
+                }
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) { // Appelé quand le bouton de la souris est relâché
+                if (panning) { // Si on était en mode déplacement
+                    panning = false; // Désactive le mode déplacement
+                    lastMouse = null; // Oublie la dernière position
+                    setCursor(Cursor.getDefaultCursor()); // Restaure le curseur par défaut
+                }
+                drawing = false; // On arrête le dessin dans tous les cas
+            }
+        }; // Fin de la classe anonyme MouseAdapter
+        addMouseListener(mouse); // Enregistre l'écouteur de clics
+        addMouseMotionListener(mouse); // Enregistre l'écouteur de déplacements de la souris
+        addMouseWheelListener(this::zoomAt); // La molette zoome autour du pointeur
+    }
+
+    private double cellsPerPixel() { // Nombre de cellules (fractionnaire) par pixel au zoom courant
+        return zoom >= 0 ? 1.0 / CELL_SIZES[zoom] : (double) (1L << -zoom); // Zoom avant ou agrégation
+    }
+
+    private void zoomAt(MouseWheelEvent e) { // Zoome d'un cran en gardant fixe la cellule sous le pointeur
+        int next = Math.max(-MAX_SHIFT, Math.min(CELL_SIZES.length - 1, zoom - e.getWheelRotation())); // Molette vers soi = dézoom
+        if (next == zoom) return; // Déjà à la limite
+        double col = viewCol + e.getX() * cellsPerPixel(); // Colonne monde sous le pointeur
+        double row = viewRow + e.getY() * cellsPerPixel(); // Ligne monde sous le pointeur
+        zoom = next; // Nouveau niveau de zoom
+        viewCol = col - e.getX() * cellsPerPixel(); // Recale la vue pour garder la cellule sous le pointeur
+        viewRow = row - e.getY() * cellsPerPixel(); // Idem verticalement
+        invalidateView(); // Redessine (et demande une nouvelle zone à la simulation)
+    }
+
+    private void panByPixels(int dx, int dy) { // Fait défiler la vue de dx, dy pixels
+        viewCol += dx * cellsPerPixel(); // Décalage horizontal converti en cellules (fractionnaires)
+        viewRow += dy * cellsPerPixel(); // Décalage vertical converti en cellules
+        invalidateView(); // Redessine le panneau pour refléter la nouvelle vue
+    }
+
+    private void panByCells(int dCols, int dRows) { // Fait défiler la vue par un nombre entier de cellules
+        double unit = Math.max(1, Math.round(20 * cellsPerPixel())); // Au moins l'équivalent d'une cellule de 20 pixels
+        viewCol += dCols * unit; // Ajuste la colonne de la vue
+        viewRow += dRows * unit; // Ajuste la ligne de la vue
+        invalidateView(); // Redessine la vue
+    }
+
+    void invalidateView() { // La vue a bougé : l'image en cache n'est plus valable
+        imageValid = false; // Le prochain rendu sera complet
+        repaint(); // Redessine tout le panneau
+    }
+
+    void showSnapshot(WorldSnapshot snap) { // Nouvelle photographie publiée (EDT) : ne redessine que les zones modifiées
+        if (snap == rendered) return; // Déjà affichée
+        if (!imageValid || rendered == null || snap.getSerial() != rendered.getSerial() + 1 // Photographie manquée
+                || snap.getRegion() != rendered.getRegion() || snap.getRegion() == null) { // ou zone différente
+            imageValid = false; // Rendu complet au prochain dessin
+            repaint(); // Redessine tout le panneau
+            return; // Terminé
+        }
+        Rectangle box = new Rectangle(); // Rectangle de pixels réutilisé
+        boolean known = snap.forEachChange((r0, c0, r1, c1) -> { // Pour chaque zone modifiée
+            if (!toPixels(r0, c0, r1, c1, box)) return; // Hors de l'écran
+            render(snap, box.x, box.y, box.x + box.width, box.y + box.height); // Met à jour l'image en cache
+            repaint(box); // Ne recopie que ce rectangle à l'écran
+        });
+        rendered = snap; // L'image correspond désormais à cette photographie
+        if (!known) { imageValid = false; repaint(); } // Zones inconnues (HashLife, effacement) : rendu complet
+    }
+
+    private boolean toPixels(long r0, long c0, long r1, long c1, Rectangle out) { // Rectangle monde -> pixels (coupé à l'écran)
+        long unit = 1L << shift; // Côté d'un bloc en cellules
+        long x0 = startX + (Math.floorDiv(c0, unit) - blockCol0) * cellPx; // Bord gauche du premier bloc
+        long y0 = startY + (Math.floorDiv(r0, unit) - blockRow0) * cellPx; // Bord haut du premier bloc
+        long x1 = startX + (Math.floorDiv(c1 - 1, unit) + 1 - blockCol0) * cellPx; // Bord droit du dernier bloc
+        long y1 = startY + (Math.floorDiv(r1 - 1, unit) + 1 - blockRow0) * cellPx; // Bord bas du dernier bloc
+        x0 = Math.max(0, x0); y0 = Math.max(0, y0); // Coupe à l'image
+        x1 = Math.min(image.getWidth(), x1); y1 = Math.min(image.getHeight(), y1); // Idem à droite et en bas
+        if (x0 >= x1 || y0 >= y1) return false; // Rien de visible
+        out.setBounds((int) x0, (int) y0, (int) (x1 - x0), (int) (y1 - y0)); // Rectangle de pixels
+        return true; // Visible
+    }
+
+    private void setupKeyBindings() { // Configure les raccourcis clavier pour déplacer la vue
+        InputMap im = getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW); // Map des touches actives quand la fenêtre a le focus
+        ActionMap am = getActionMap(); // Map des actions associées aux noms symboliques
+
+        im.put(KeyStroke.getKeyStroke("LEFT"), "panLeft"); // Associe la flèche gauche à l'action panLeft
+        am.put("panLeft", new AbstractAction() { // Déclare l'action panLeft
+            @Override public void actionPerformed(ActionEvent e) { panByCells(-1, 0); } // Déplacement d'une colonne à gauche
+        });
+        im.put(KeyStroke.getKeyStroke("RIGHT"), "panRight"); // Associe la flèche droite à panRight
+        am.put("panRight", new AbstractAction() { // Déclare l'action panRight
+            @Override public void actionPerformed(ActionEvent e) { panByCells(1, 0); } // Déplacement d'une colonne à droite
+        });
+        im.put(KeyStroke.getKeyStroke("UP"), "panUp"); // Flèche haut -> panUp
+        am.put("panUp", new AbstractAction() { // Action panUp
+            @Override public void actionPerformed(ActionEvent e) { panByCells(0, -1); } // Monte d'une ligne
+        });
+        im.put(KeyStroke.getKeyStroke("DOWN"), "panDown"); // Flèche bas -> panDown
+        am.put("panDown", new AbstractAction() { // Action panDown
+            @Override public void actionPerformed(ActionEvent e) { panByCells(0, 1); } // Descend d'une ligne
+        });
+
+        im.put(KeyStroke.getKeyStroke("shift LEFT"), "panLeftFast"); // Maj+Gauche pour déplacement rapide
+        am.put("panLeftFast", new AbstractAction() { // Action panLeftFast
+            @Override public void actionPerformed(ActionEvent e) { panByCells(-10, 0); } // 10 colonnes à gauche
+        });
+        im.put(KeyStroke.getKeyStroke("shift RIGHT"), "panRightFast"); // Maj+Droite -> rapide
+        am.put("panRightFast", new AbstractAction() { // Action panRightFast
+            @Override public void actionPerformed(ActionEvent e) { panByCells(10, 0); } // 10 colonnes à droite
+        });
+        im.put(KeyStroke.getKeyStroke("shift UP"), "panUpFast"); // Maj+Haut -> rapide
+        am.put("panUpFast", new AbstractAction() { // Action panUpFast
+            @Override public void actionPerformed(ActionEvent e) { panByCells(0, -10); } // 10 lignes vers le haut
+        });
+        im.put(KeyStroke.getKeyStroke("shift DOWN"), "panDownFast"); // Maj+Bas -> rapide
+        am.put("panDownFast", new AbstractAction() { // Action panDownFast
+            @Override public void actionPerformed(ActionEvent e) { panByCells(0, 10); } // 10 lignes vers le bas
+        });
+
+        im.put(KeyStroke.getKeyStroke("pressed A"), "panLeftA"); // Touche A -> gauche (alternative de jeu)
+        am.put("panLeftA", new AbstractAction() { // Action panLeftA
+            @Override public void actionPerformed(ActionEvent e) { panByCells(-1, 0); } // 1 colonne à gauche
+        });
+        im.put(KeyStroke.getKeyStroke("pressed D"), "panRightD"); // Touche D -> droite
+        am.put("panRightD", new AbstractAction() { // Action panRightD
+            @Override public void actionPerformed(ActionEvent e) { panByCells(1, 0); } // 1 colonne à droite
+        });
+        im.put(KeyStroke.getKeyStroke("pressed W"), "panUpW"); // Touche W -> haut
+        am.put("panUpW", new AbstractAction() { // Action panUpW
+            @Override public void actionPerformed(ActionEvent e) { panByCells(0, -1); } // 1 ligne en haut
+        });
+        im.put(KeyStroke.getKeyStroke("pressed S"), "panDownS"); // Touche S -> bas
+        am.put("panDownS", new AbstractAction() { // Action panDownS
+            @Override public void actionPerformed(ActionEvent e) { panByCells(0, 1); } // 1 ligne en bas
+        });
+        im.put(KeyStroke.getKeyStroke("shift pressed A"), "panLeftAFast"); // Maj+A -> gauche rapide
+        am.put("panLeftAFast", new AbstractAction() { // Action panLeftAFast
+            @Override public void actionPerformed(ActionEvent e) { panByCells(-10, 0); } // 10 colonnes à gauche
+        });
+        im.put(KeyStroke.getKeyStroke("shift pressed D"), "panRightDFast"); // Maj+D -> droite rapide
+        am.put("panRightDFast", new AbstractAction() { // Action panRightDFast
+            @Override public void actionPerformed(ActionEvent e) { panByCells(10, 0); } // 10 colonnes à droite
+        });
+        im.put(KeyStroke.getKeyStroke("shift pressed W"), "panUpWFast"); // Maj+W -> haut rapide
+        am.put("panUpWFast", new AbstractAction() { // Action panUpWFast
+            @Override public void actionPerformed(ActionEvent e) { panByCells(0, -10); } // 10 lignes en haut
+        });
+        im.put(KeyStroke.getKeyStroke("shift pressed S"), "panDownSFast"); // Maj+S -> bas rapide
+        am.put("panDownSFast", new AbstractAction() { // Action panDownSFast
+            @Override public void actionPerformed(ActionEvent e) { panByCells(0, 10); } // 10 lignes en bas
+        });
+    } // Fin de la configuration des raccourcis
+
+    private void applyAt(int x, int y) { // Applique l'action courante (dessin/effacement) à la cellule sous (x,y)
+        int worldCol = (int) Math.floor(viewCol + x * cellsPerPixel()); // Convertit x pixel -> colonne du monde
+        int worldRow = (int) Math.floor(viewRow + y * cellsPerPixel()); // Convertit y pixel -> ligne du monde
+        boolean state = drawState; // Copie de l'action courante pour la modification différée
+        sim.submit(l -> l.setAlive(worldRow, worldCol, state)); // Mise à jour appliquée par le thread de simulation
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) { // Dessine le contenu du panneau
+        long t0 = System.nanoTime(); // Début de la mesure du rendu
+        super.paintComponent(g); // Nettoie le fond et prépare le contexte
+        Graphics2D g2 = (Graphics2D) g.create(); // Crée un contexte graphique 2D isolé
+        try { // Bloc try/finally pour garantir la libération des ressources graphiques
+            int w = getWidth(); // Largeur visible du panneau en pixels
+            int h = getHeight(); // Hauteur visible du panneau en pixels
+            if (w <= 0 || h <= 0) return; // Rien à dessiner tant que le panneau n'est pas dimensionné
+            if (image == null || image.getWidth() != w || image.getHeight() != h) { // Première fois ou redimensionnement
+                image = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB); // Nouvelle image hors écran
+                pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData(); // Accès direct aux pixels
+                imageValid = false; // Contenu à produire
+            }
+            WorldSnapshot snap = sim.getSnapshot(); // Photographie immuable : la simulation peut continuer en parallèle
+            if (!imageValid) { // Vue déplacée, zoomée ou redimensionnée : rendu complet
+                mapView(); // Recalcule la correspondance pixels <-> blocs
+                requestRegion(w, h); // Demande à la simulation la zone visible (avec une marge)
+                render(snap, 0, 0, w, h); // Rastérise toute l'image
+                rendered = snap; // Photographie rendue
+                imageValid = true; // Cache à jour
+            } else if (snap != rendered) { // Photographie arrivée entre deux rafraîchissements
+                showSnapshot(snap); // Met à jour les zones modifiées (ou invalide le cache)
+                if (!imageValid) { render(snap, 0, 0, w, h); rendered = snap; imageValid = true; } // Repli : rendu complet
+            }
+            g2.drawImage(image, 0, 0, null); // Copie l'image à l'écran (limitée par Swing au rectangle à repeindre)
+
+            if (cellPx >= GRID_MIN_CELL) { // La grille n'est lisible qu'à partir d'une certaine taille de cellule
+                Rectangle clip = g2.getClipBounds(); // Zone à repeindre (tout le panneau ou une zone modifiée)
+                if (clip == null) clip = new Rectangle(0, 0, w, h); // Aucune découpe : tout le panneau
+                g2.setColor(new Color(230, 230, 230)); // Couleur claire pour la grille
+                // Lignes verticales
+                for (int x = startX + Math.floorDiv(clip.x - startX, cellPx) * cellPx; x <= clip.x + clip.width; x += cellPx) { // Lignes dans la découpe
+                    g2.drawLine(x, clip.y, x, clip.y + clip.height); // Trace la ligne verticale
+                }
+                // Lignes horizontales
+                for (int y = startY + Math.floorDiv(clip.y - startY, cellPx) * cellPx; y <= clip.y + clip.height; y += cellPx) { // Idem
+                    g2.drawLine(clip.x, y, clip.x + clip.width, y); // Trace la ligne horizontale
+                }
+            }
+            if (sim.getEngine().isBounded()) paintBounds(g2, w, h); // Limites d'un monde fini (dimensions immuables)
+            if (metricsOverlay) paintOverlay(g2); // Mesures par-dessus le monde
+        } finally { // Toujours exécuté, même si une exception survient
+            g2.dispose(); // Libère les ressources du contexte graphique
+            sim.requestSnapshot(); // Prêt pour la photographie suivante (les générations intermédiaires sont sautées)
+            SimulationMetrics metrics = sim.getMetrics(); // Mesures de la simulation
+            if (metrics.isEnabled()) metrics.painted(System.nanoTime() - t0); // Durée de l'image
+        }
+    } // Fin de paintComponent
+
+    private void paintBounds(Graphics2D g2, int w, int h) { // Contour du monde fini (DenseLife), centré en (0,0)
+        LifeEngine life = sim.getEngine(); // Moteur simulé (seules ses dimensions sont lues)
+        long top = -(life.getRows() / 2), left = -(life.getCols() / 2); // Coin du monde (même centrage que randomize)
+        int y0 = pixelY(top, h), y1 = pixelY(top + life.getRows(), h); // Bords haut et bas
+        int x0 = pixelX(left, w), x1 = pixelX(left + life.getCols(), w); // Bords gauche et droit
+        g2.setColor(new Color(203, 64, 32)); // Couleur contrastant avec les cellules
+        g2.drawRect(x0 - 1, y0 - 1, x1 - x0 + 1, y1 - y0 + 1); // Juste à l'extérieur des cellules de bord
+    }
+
+    private int pixelX(long col, int w) { // Pixel du bord gauche de la colonne col (borné aux abords du panneau)
+        long x = startX + (Math.floorDiv(col, 1L << shift) - blockCol0) * cellPx; // Bloc de la colonne dans la vue
+        return (int) Math.max(-2, Math.min(w + 2, x)); // Hors de la vue : juste au-delà du bord
+    }
+
+    private int pixelY(long row, int h) { // Pixel du bord haut de la ligne row (idem)
+        long y = startY + (Math.floorDiv(row, 1L << shift) - blockRow0) * cellPx; // Bloc de la ligne dans la vue
+        return (int) Math.max(-2, Math.min(h + 2, y)); // Hors de la vue : juste au-delà du bord
+    }
+
+    public void setMetricsOverlay(boolean on) { // Affiche ou masque l'incrustation des mesures
+        metricsOverlay = on; // Nouvel état
+        repaint(); // L'image en cache est intacte : la recopie efface l'ancienne incrustation
+    }
+
+    void repaintOverlay() { // Rafraîchit les valeurs affichées (appelé par le timer de l'IHM)
+        long now = System.nanoTime(); // Date courante
+        if (!metricsOverlay || now - overlayPainted < OVERLAY_PERIOD_NS) return; // Masquée ou rafraîchie récemment
+        overlayPainted = now; // Nouveau rafraîchissement
+        repaint(overlayBounds.x, overlayBounds.y, overlayBounds.width + 200, overlayBounds.height); // Marge : le texte peut s'allonger
+    }
+
+    private void paintOverlay(Graphics2D g2) { // Dessine les mesures sur un fond semi-transparent
+        String[] lines = sim.getMetrics().overlayLines(); // Texte à afficher
+        g2.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12)); // Police à chasse fixe : les colonnes restent alignées
+        FontMetrics fm = g2.getFontMetrics(); // Dimensions du texte
+        int w = 0; // Largeur de la plus longue ligne
+        for (String s : lines) w = Math.max(w, fm.stringWidth(s)); // Mesure chaque ligne
+        overlayBounds.setBounds(8, 8, w + 12, lines.length * fm.getHeight() + 8); // Zone de l'incrustation
+        g2.setColor(new Color(0, 0, 0, 160)); // Fond sombre semi-transparent
+        g2.fillRect(overlayBounds.x, overlayBounds.y, overlayBounds.width, overlayBounds.height); // Fond
+        g2.setColor(Color.WHITE); // Texte clair
+        for (int i = 0; i < lines.length; i++) g2.drawString(lines[i], 14, 12 + fm.getAscent() + i * fm.getHeight()); // Lignes
+    }
+
+    private void mapView() { // Correspondance entre pixels et blocs du monde pour la vue courante
+        shift = Math.max(0, -zoom); // Agrégation : 2^shift cellules par pixel de côté
+        cellPx = zoom >= 0 ? CELL_SIZES[zoom] : 1; // Pixels par cellule (ou par bloc)
+        blockRow0 = Math.floorDiv((long) Math.floor(viewRow), 1L << shift); // Bloc sous le pixel (0,0)
+        blockCol0 = Math.floorDiv((long) Math.floor(viewCol), 1L << shift); // Idem en colonne
+        startX = shift > 0 ? 0 : (int) -Math.floor((viewCol - Math.floor(viewCol)) * cellPx); // Décalage fin en X
+        startY = shift > 0 ? 0 : (int) -Math.floor((viewRow - Math.floor(viewRow)) * cellPx); // Idem en Y
+    }
+
+    private void render(WorldSnapshot snap, int x0, int y0, int x1, int y1) { // Rastérise les pixels [x0,x1)x[y0,y1)
+        int w = image.getWidth(); // Largeur d'une ligne de pixels
+        for (int py = y0; py < y1; py++) Arrays.fill(pixels, py * w + x0, py * w + x1, BACKGROUND_RGB); // Efface la zone
+        Viewport region = snap.getRegion(); // Zone couverte par la photographie
+        if (region == null || region.shift != shift) return; // Photographie à un autre niveau de détail : fond seul
+        long i0 = blockRow0 - (region.row0 >> shift), j0 = blockCol0 - (region.col0 >> shift); // Bloc (0,0) dans la zone
+        int area = 1 << (2 * shift); // Cellules par bloc
+        for (int i = Math.floorDiv(y0 - startY, cellPx), y = startY + i * cellPx; y < y1; i++, y += cellPx) { // Lignes de blocs
+            long ri = i0 + i; // Ligne dans la zone photographiée
+            if (ri < 0 || ri >= region.rows) continue; // Hors de la photographie
+            for (int j = Math.floorDiv(x0 - startX, cellPx), x = startX + j * cellPx; x < x1; j++, x += cellPx) { // Colonnes
+                long cj = j0 + j; // Colonne dans la zone photographiée
+                if (cj < 0 || cj >= region.cols) continue; // Hors de la photographie
+                int n = snap.countAt((int) ri, (int) cj); // Cellules vivantes du bloc
+                if (n == 0) continue; // Bloc vide : le fond suffit
+                int rgb = shift == 0 ? LIVE_RGB : DENSITY_RGB[Math.min(255, 64 + (int) (191 * Math.sqrt((double) n / area)))]; // Densité
+                int bx0 = Math.max(x0, x), bx1 = Math.min(x1, x + cellPx); // Colonnes de pixels du bloc dans la zone
+                for (int py = Math.max(y0, y), py1 = Math.min(y1, y + cellPx); py < py1; py++) { // Lignes du bloc
+                    Arrays.fill(pixels, py * w + bx0, py * w + bx1, rgb); // Écrit une ligne du bloc
+                }
+            }
+        }
+    }
+
+    private void requestRegion(int w, int h) { // Transmet la zone visible si la photographie ne la couvre plus
+        double cpp = cellsPerPixel(); // Cellules par pixel
+        long r0 = (long) Math.floor(viewRow), c0 = (long) Math.floor(viewCol); // Première cellule visible
+        long r1 = (long) Math.ceil(viewRow + h * cpp) + 1, c1 = (long) Math.ceil(viewCol + w * cpp) + 1; // Au-delà de la dernière
+        long unit = 1L << shift; // Côté d'un bloc
+        r0 = Math.floorDiv(r0, unit) * unit; c0 = Math.floorDiv(c0, unit) * unit; // Alignement sur les blocs
+        Viewport current = sim.getViewport(); // Zone déjà demandée
+        if (current != null && current.covers(r0, c0, r1, c1, shift)) return; // Toujours couverte : rien à redemander
+        long marginR = Math.floorDiv((r1 - r0) / 4 + unit, unit) * unit; // Marge d'un quart d'écran (défilement sans trou)
+        long marginC = Math.floorDiv((c1 - c0) / 4 + unit, unit) * unit; // Idem en colonnes
+        long top = clamp(r0 - marginR), left = clamp(c0 - marginC); // Coin de la zone demandée (aligné)
+        int rows = (int) ((clamp(r1 + marginR) - top + unit - 1) >> shift); // Lignes de blocs
+        int cols = (int) ((clamp(c1 + marginC) - left + unit - 1) >> shift); // Colonnes de blocs
+        sim.setViewport(new Viewport((int) top, (int) left, shift, rows, cols)); // Nouvelle zone à photographier
+    }
+
+    private static long clamp(long v) { // Ramène une coordonnée dans l'espace des int (bords extrêmes du monde)
+        return Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE - (1L << 21), v)); // Réserve une marge de blocs
+    }
+} // Fin de la classe LifePanel
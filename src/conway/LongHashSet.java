@@ -0,0 +1,118 @@
+package conway;
+
+import java.util.Arrays; // Importe Arrays pour remettre le tableau de clés à zéro
+
+// Ensemble de clés long à adressage ouvert (sondage linéaire), sans boxing.
+// La clé 0 sert de marqueur « case libre » : elle est donc stockée à part (hasZero).
+// Le parcours se fait par « cases » (0..slots()-1) pour ne rien allouer : la dernière case représente la clé 0.
+final class LongHashSet { // Ensemble primitif réutilisable d'une génération à l'autre
+    private static final long FREE = 0L; // Valeur d'une case vide dans le tableau
+    private static final int MIN_CAPACITY = 16; // Capacité minimale (puissance de 2)
+
+    private long[] keys; // Tableau des clés (FREE = case vide)
+    private int mask; // Masque d'indice (capacité - 1)
+    private int size; // Nombre de clés non nulles stockées dans le tableau
+    private boolean hasZero; // Indique si la clé 0 fait partie de l'ensemble
+    private int resizeAt; // Seuil de remplissage déclenchant un agrandissement (facteur 0,5)
+
+    LongHashSet() { this(MIN_CAPACITY); } // Constructeur par défaut
+
+    LongHashSet(int expected) { // Constructeur avec un nombre d'éléments attendu
+        allocate(capacityFor(expected)); // Alloue le tableau initial
+    }
+
+    int size() { return size + (hasZero ? 1 : 0); } // Nombre total d'éléments
+    boolean isEmpty() { return size() == 0; } // Vrai si l'ensemble est vide
+
+    boolean contains(long k) { // Teste la présence d'une clé
+        if (k == FREE) return hasZero; // Cas particulier de la clé 0
+        long[] ks = keys; // Copie locale pour la boucle chaude
+        int i = mix(k) & mask; // Case de départ du sondage
+        while (true) { // Sondage linéaire jusqu'à trouver la clé ou une case vide
+            long cur = ks[i]; // Clé présente dans la case
+            if (cur == k) return true; // Trouvée
+            if (cur == FREE) return false; // Case vide : la clé est absente
+            i = (i + 1) & mask; // Case suivante
+        }
+    }
+
+    boolean add(long k) { // Ajoute une clé ; renvoie true si elle n'y était pas
+        if (k == FREE) { boolean was = hasZero; hasZero = true; return !was; } // Cas particulier de la clé 0
+        int i = mix(k) & mask; // Case de départ du sondage
+        while (true) { // Cherche la clé ou la première case libre
+            long cur = keys[i]; // Clé présente dans la case
+            if (cur == k) return false; // Déjà présente
+            if (cur == FREE) break; // Case libre trouvée
+            i = (i + 1) & mask; // Case suivante
+        }
+        keys[i] = k; // Insère la clé
+        if (++size >= resizeAt) rehash(keys.length << 1); // Agrandit si le seuil est atteint
+        return true; // Nouvelle clé ajoutée
+    }
+
+    boolean remove(long k) { // Supprime une clé ; renvoie true si elle était présente
+        if (k == FREE) { boolean was = hasZero; hasZero = false; return was; } // Cas particulier de la clé 0
+        int i = mix(k) & mask; // Case de départ du sondage
+        while (true) { // Cherche la clé
+            long cur = keys[i]; // Clé présente dans la case
+            if (cur == FREE) return false; // Absente
+            if (cur == k) break; // Trouvée
+            i = (i + 1) & mask; // Case suivante
+        }
+        shiftBack(i); // Comble le trou pour conserver des chaînes de sondage continues
+        size--; // Une clé de moins
+        return true; // Suppression effectuée
+    }
+
+    void clear() { // Vide l'ensemble en conservant sa capacité (sauf fort dégonflement)
+        if (keys.length > 64 && size < keys.length >>> 4) allocate(capacityFor(size)); // Réduit la capacité si l'ensemble a fortement dégonflé
+        else if (size > 0) Arrays.fill(keys, FREE); // Remet toutes les cases à vide
+        size = 0; // Plus aucune clé dans le tableau
+        hasZero = false; // Ni la clé 0
+    }
+
+    int slots() { return keys.length + 1; } // Nombre de cases à parcourir (la dernière = clé 0)
+    boolean used(int slot) { return slot == keys.length ? hasZero : keys[slot] != FREE; } // Case occupée ?
+    long keyAt(int slot) { return slot == keys.length ? FREE : keys[slot]; } // Clé contenue dans la case
+
+    private void shiftBack(int hole) { // Suppression par décalage arrière (pas de pierre tombale)
+        int i = hole; // Position courante du trou
+        while (true) { // Parcourt la chaîne qui suit le trou
+            i = (i + 1) & mask; // Case suivante
+            long cur = keys[i]; // Clé candidate au déplacement
+            if (cur == FREE) break; // Fin de chaîne : plus rien à déplacer
+            int home = mix(cur) & mask; // Case idéale de cette clé
+            // La clé peut combler le trou si sa case idéale n'est pas située entre le trou (exclu) et i (inclus)
+            if (((i - home) & mask) >= ((i - hole) & mask)) { keys[hole] = cur; hole = i; } // Déplace et avance le trou
+        }
+        keys[hole] = FREE; // Libère la dernière case déplacée
+    }
+
+    private void rehash(int newCapacity) { // Réinsère toutes les clés dans un tableau plus grand
+        long[] old = keys; // Ancien tableau
+        allocate(newCapacity); // Nouveau tableau vide
+        for (long k : old) { // Pour chaque ancienne case
+            if (k == FREE) continue; // Ignore les cases vides
+            int i = mix(k) & mask; // Case de départ
+            while (keys[i] != FREE) i = (i + 1) & mask; // Première case libre (pas de doublon possible)
+            keys[i] = k; // Place la clé
+        }
+    }
+
+    private void allocate(int capacity) { // Alloue un tableau de la capacité demandée
+        keys = new long[capacity]; // Tableau de clés vide
+        mask = capacity - 1; // Masque d'indice
+        resizeAt = capacity >> 1; // Facteur de charge maximal 0,5 (sondages courts)
+    }
+
+    static int capacityFor(int expected) { // Plus petite puissance de 2 gardant le facteur de charge sous 0,5
+        int cap = MIN_CAPACITY; // Part de la capacité minimale
+        while (cap >> 1 <= expected) cap <<= 1; // Double tant que le seuil serait dépassé
+        return cap; // Capacité retenue
+    }
+
+    static int mix(long k) { // Mélange les bits de la clé (ligne et colonne) avant masquage
+        long h = k * 0x9E3779B97F4A7C15L; // Multiplication par le nombre d'or (hachage de Fibonacci)
+        return (int) (h ^ (h >>> 32)); // Replie les bits de poids fort sur ceux de poids faible
+    }
+} // Fin de la classe LongHashSet
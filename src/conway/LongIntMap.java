@@ -0,0 +1,103 @@
+package conway;
+
+import java.util.Arrays; // Importe Arrays pour remettre les tableaux à zéro
+
+// Dictionnaire long -> int à adressage ouvert, utilisé comme compteur de voisins.
+// Même organisation que LongHashSet : clé 0 stockée à part, parcours par cases sans allocation.
+final class LongIntMap { // Compteur primitif réutilisable d'une génération à l'autre
+    private static final long FREE = 0L; // Valeur d'une case vide dans le tableau de clés
+
+    private long[] keys; // Tableau des clés (FREE = case vide)
+    private int[] values; // Valeurs associées aux clés
+    private int mask; // Masque d'indice (capacité - 1)
+    private int size; // Nombre de clés non nulles stockées
+    private boolean hasZero; // Indique si la clé 0 est présente
+    private int zeroValue; // Valeur associée à la clé 0
+    private int resizeAt; // Seuil déclenchant un agrandissement (facteur 0,5)
+
+    LongIntMap() { this(16); } // Constructeur par défaut
+
+    LongIntMap(int expected) { // Constructeur avec un nombre d'entrées attendu
+        allocate(LongHashSet.capacityFor(expected)); // Alloue les tableaux initiaux
+    }
+
+    int size() { return size + (hasZero ? 1 : 0); } // Nombre total d'entrées
+
+    int get(long k) { // Valeur associée à la clé, ou 0 si absente
+        if (k == FREE) return hasZero ? zeroValue : 0; // Cas particulier de la clé 0
+        int i = LongHashSet.mix(k) & mask; // Case de départ du sondage
+        while (true) { // Sondage linéaire
+            long cur = keys[i]; // Clé présente dans la case
+            if (cur == k) return values[i]; // Trouvée
+            if (cur == FREE) return 0; // Absente
+            i = (i + 1) & mask; // Case suivante
+        }
+    }
+
+    int increment(long k) { // Ajoute 1 à la valeur de la clé (créée à 0 si besoin) et renvoie la nouvelle valeur
+        if (k == FREE) { // Cas particulier de la clé 0
+            if (!hasZero) { hasZero = true; zeroValue = 0; } // Crée l'entrée si nécessaire
+            return ++zeroValue; // Incrémente
+        }
+        long[] ks = keys; // Copie locale pour la boucle chaude
+        int i = LongHashSet.mix(k) & mask; // Case de départ du sondage
+        while (true) { // Cherche la clé ou une case libre
+            long cur = ks[i]; // Clé présente dans la case
+            if (cur == k) return ++values[i]; // Déjà présente : incrémente
+            if (cur == FREE) break; // Case libre : nouvelle entrée
+            i = (i + 1) & mask; // Case suivante
+        }
+        ks[i] = k; // Insère la clé
+        values[i] = 1; // Premier voisin compté
+        if (++size >= resizeAt) rehash(ks.length << 1); // Agrandit si le seuil est atteint
+        return 1; // Nouvelle valeur
+    }
+
+    void put(long k, int v) { // Associe la valeur v à la clé k (remplace l'ancienne valeur)
+        if (k == FREE) { hasZero = true; zeroValue = v; return; } // Cas particulier de la clé 0
+        long[] ks = keys; // Copie locale
+        int i = LongHashSet.mix(k) & mask; // Case de départ du sondage
+        while (true) { // Cherche la clé ou une case libre
+            long cur = ks[i]; // Clé présente dans la case
+            if (cur == k) { values[i] = v; return; } // Déjà présente : remplace
+            if (cur == FREE) break; // Case libre : nouvelle entrée
+            i = (i + 1) & mask; // Case suivante
+        }
+        ks[i] = k; // Insère la clé
+        values[i] = v; // Et sa valeur
+        if (++size >= resizeAt) rehash(ks.length << 1); // Agrandit si le seuil est atteint
+    }
+
+    void clear() { // Vide le dictionnaire en conservant sa capacité (sauf fort dégonflement)
+        if (keys.length > 64 && size < keys.length >>> 4) allocate(LongHashSet.capacityFor(size)); // Réduit la capacité si l'ensemble a fortement dégonflé
+        else if (size > 0) Arrays.fill(keys, FREE); // Les valeurs n'ont pas besoin d'être effacées
+        size = 0; // Plus aucune entrée
+        hasZero = false; // Ni la clé 0
+    }
+
+    int slots() { return keys.length + 1; } // Nombre de cases à parcourir (la dernière = clé 0)
+    boolean used(int slot) { return slot == keys.length ? hasZero : keys[slot] != FREE; } // Case occupée ?
+    long keyAt(int slot) { return slot == keys.length ? FREE : keys[slot]; } // Clé de la case
+    int valueAt(int slot) { return slot == keys.length ? zeroValue : values[slot]; } // Valeur de la case
+
+    private void rehash(int newCapacity) { // Réinsère toutes les entrées dans des tableaux plus grands
+        long[] oldKeys = keys; // Anciennes clés
+        int[] oldValues = values; // Anciennes valeurs
+        allocate(newCapacity); // Nouveaux tableaux vides
+        for (int s = 0; s < oldKeys.length; s++) { // Pour chaque ancienne case
+            long k = oldKeys[s]; // Clé de la case
+            if (k == FREE) continue; // Ignore les cases vides
+            int i = LongHashSet.mix(k) & mask; // Case de départ
+            while (keys[i] != FREE) i = (i + 1) & mask; // Première case libre
+            keys[i] = k; // Place la clé
+            values[i] = oldValues[s]; // Et sa valeur
+        }
+    }
+
+    private void allocate(int capacity) { // Alloue des tableaux de la capacité demandée
+        keys = new long[capacity]; // Clés vides
+        values = new int[capacity]; // Valeurs
+        mask = capacity - 1; // Masque d'indice
+        resizeAt = capacity >> 1; // Facteur de charge maximal 0,5
+    }
+} // Fin de la classe LongIntMap
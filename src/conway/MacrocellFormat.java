@@ -0,0 +1,179 @@
+package conway;
+
+import java.io.IOException; // Importe l'exception d'entrée/sortie
+import java.util.Arrays; // Importe Arrays pour agrandir les tables de nœuds
+
+// Format Macrocell (Golly, extension .mc) : le quadtree canonique de HashLife écrit nœud par nœud.
+// Après l'en-tête « [M2] », chaque ligne (hors commentaires '#') définit un nœud, numéroté à partir de 1 :
+//   - une feuille 8x8 en texte : lignes de '.' (morte) et '*' (vivante) terminées par '$', fins de ligne omises ;
+//   - un nœud interne « k nw ne sw se » : niveau k (côté 2^k) puis les numéros de ses quadrants (0 = vide).
+// Le dernier nœud est la racine, centrée sur (0,0) comme celle de HashLife. Les commentaires « #R » (règle) et
+// « #G » (génération) sont écrits puis relus, quel que soit le moteur.
+// Avec HashLife, lecture et écriture travaillent directement sur les nœuds canoniques du moteur ;
+// les autres moteurs reçoivent ou fournissent les cellules une à une.
+final class MacrocellFormat { // Utilitaires statiques, aucune instance
+    private static final int LEAF_LEVEL = 3; // Niveau des feuilles du format (carrés 8x8)
+    private static final int MAX_LEVEL = 62; // Niveau maximal accepté (coordonnées sur un long)
+
+    private MacrocellFormat() { } // Classe non instanciable
+
+    static void read(PatternIO.ByteInput in, LifeEngine life) throws IOException { // Ajoute le motif lu au monde
+        String header = in.readLine(); // Première ligne : version du format
+        if (!header.startsWith("[M2]")) throw new IllegalArgumentException("not a Macrocell file: " + header); // Format invalide
+        byte[] levels = new byte[1024]; // Niveau de chaque nœud (index = numéro de ligne)
+        int[] kids = new int[4 * 1024]; // Quadrants nw, ne, sw, se de chaque nœud interne
+        long[] bits = new long[1024]; // Cellules de chaque feuille (bit r*8+c)
+        int n = 1; // Prochain numéro de nœud (0 = nœud vide)
+        long generation = -1; // Génération lue dans « #G » (-1 : absente, celle du moteur est conservée)
+        for (int b = in.read(); b >= 0; b = in.read()) { // Une ligne par tour de boucle
+            if (b == '\r' || b == '\n') continue; // Ligne vide
+            if (b == '#') { // Commentaire : seules la règle (#R) et la génération (#G) sont lues
+                String line = in.readLine(); // Contenu du commentaire
+                if (line.startsWith("R")) life.setRule(Rule.parse(line.substring(1).trim())); // Règle du motif
+                if (line.startsWith("G")) generation = PatternIO.parseGeneration(line.substring(1).trim(), in.line()); // Génération du motif
+                continue; // Ligne suivante
+            }
+            if (n == levels.length) { // Tables pleines
+                levels = Arrays.copyOf(levels, n * 2); kids = Arrays.copyOf(kids, n * 8); bits = Arrays.copyOf(bits, n * 2); // Agrandit
+            }
+            if (b >= '0' && b <= '9') { // Nœud interne : « k nw ne sw se »
+                long[] fields = new long[5]; // Niveau puis quadrants
+                b = readFields(in, b, fields); // Lit les cinq nombres
+                int k = (int) fields[0]; // Niveau du nœud
+                if (k <= LEAF_LEVEL || k > MAX_LEVEL) throw new IllegalArgumentException("invalid node level " + k + " at line " + in.line()); // Niveau invalide
+                for (int q = 0; q < 4; q++) { // Chaque quadrant doit être déjà défini et du niveau inférieur
+                    long child = fields[q + 1]; // Numéro du quadrant
+                    if (child >= n || (child > 0 && levels[(int) child] != k - 1)) // Référence en avant ou mauvais niveau
+                        throw new IllegalArgumentException("invalid node reference " + child + " at line " + in.line()); // Quadtree invalide
+                    kids[4 * n + q] = (int) child; // Mémorise le quadrant
+                }
+                levels[n] = (byte) k; // Niveau du nœud
+            } else { // Feuille 8x8
+                long leaf = 0; // Cellules de la feuille
+                int r = 0, c = 0; // Position courante dans la feuille
+                for (; b >= 0 && b != '\n'; b = in.read()) { // Jusqu'à la fin de la ligne
+                    if (b == '.') c++; // Cellule morte
+                    else if (b == '*') { // Cellule vivante
+                        if (r >= 8 || c >= 8) throw new IllegalArgumentException("leaf larger than 8x8 at line " + in.line()); // Hors feuille
+                        leaf |= 1L << (r * 8 + c++); // Pose la cellule
+                    } else if (b == '$') { r++; c = 0; } // Ligne suivante de la feuille
+                    else if (b != '\r' && b != ' ') throw new IllegalArgumentException("invalid Macrocell character '" + (char) b + "' at line " + in.line()); // Format invalide
+                }
+                levels[n] = LEAF_LEVEL; // Niveau d'une feuille
+                bits[n] = leaf; // Cellules de la feuille
+            }
+            n++; // Nœud suivant
+            if (b < 0) break; // Dernière ligne sans saut de ligne
+        }
+        if (n > 1) build(life, levels, kids, bits, n); // Pose le quadtree (aucun nœud : motif vide)
+        if (generation >= 0) life.setGeneration(generation); // Reprend à la génération enregistrée
+    }
+
+    private static void build(LifeEngine life, byte[] levels, int[] kids, long[] bits, int n) { // Pose les n-1 nœuds lus dans le moteur
+        int root = n - 1; // La racine est le dernier nœud défini
+        if (life instanceof HashLife && life.getPopulation() == 0) { // Monde HashLife vide : adopte directement le quadtree
+            HashLife h = (HashLife) life; // Moteur cible
+            HashLife.Node[] nodes = new HashLife.Node[n]; // Nœuds canoniques, dans l'ordre du fichier
+            for (int i = 1; i < n; i++) { // Les quadrants précèdent toujours leur parent
+                int k = levels[i]; // Niveau du nœud
+                if (k == LEAF_LEVEL) { nodes[i] = h.leaf(bits[i]); continue; } // Feuille
+                HashLife.Node[] q = new HashLife.Node[4]; // Quadrants
+                for (int j = 0; j < 4; j++) { int child = kids[4 * i + j]; q[j] = child == 0 ? h.emptyNode(k - 1) : nodes[child]; } // 0 = vide
+                nodes[i] = h.join(q[0], q[1], q[2], q[3]); // Nœud canonique
+            }
+            h.setRoot(nodes[root]); // Nouveau monde (la génération est imposée par l'appelant)
+            return; // Terminé
+        }
+        long half = 1L << (levels[root] - 1); // Demi-côté de la racine
+        place(life, levels, kids, bits, root, -half, -half); // Pose les cellules depuis le coin haut-gauche
+    }
+
+    private static int readFields(PatternIO.ByteInput in, int b, long[] fields) throws IOException { // Lit des entiers séparés par des espaces
+        for (int f = 0; f < fields.length; f++) { // Chaque champ
+            while (b == ' ' || b == '\t') b = in.read(); // Ignore les espaces
+            if (b < '0' || b > '9') throw new IllegalArgumentException("invalid Macrocell node at line " + in.line()); // Champ manquant
+            long v = 0; // Valeur du champ
+            for (; b >= '0' && b <= '9'; b = in.read()) { // Chiffres
+                v = v * 10 + (b - '0'); // Accumule
+                if (v > Integer.MAX_VALUE) throw new IllegalArgumentException("number too large at line " + in.line()); // Débordement
+            }
+            fields[f] = v; // Champ lu
+        }
+        while (b >= 0 && b != '\n') { // Reste de la ligne
+            if (b != ' ' && b != '\t' && b != '\r') throw new IllegalArgumentException("invalid Macrocell node at line " + in.line()); // Texte en trop
+            b = in.read(); // Octet suivant
+        }
+        return b; // Saut de ligne ou fin du flux
+    }
+
+    private static void place(LifeEngine life, byte[] levels, int[] kids, long[] bits, int i, long top, long left) { // Pose un nœud
+        if (i == 0) return; // Nœud vide
+        if (levels[i] == LEAF_LEVEL) { // Feuille : cellules vivantes du carré 8x8
+            for (long m = bits[i]; m != 0; m &= m - 1) { // Chaque bit posé
+                int bit = Long.numberOfTrailingZeros(m); // Index r*8+c
+                long r = top + (bit >>> 3), c = left + (bit & 7); // Coordonnées de la cellule
+                if (r != (int) r || c != (int) c) throw new IllegalArgumentException("pattern exceeds engine coordinates"); // Hors des int
+                life.setAlive((int) r, (int) c, true); // Fait naître la cellule
+            }
+            return; // Terminé
+        }
+        long half = 1L << (levels[i] - 1); // Demi-côté du nœud
+        place(life, levels, kids, bits, kids[4 * i], top, left); place(life, levels, kids, bits, kids[4 * i + 1], top, left + half); // Haut
+        place(life, levels, kids, bits, kids[4 * i + 2], top + half, left); place(life, levels, kids, bits, kids[4 * i + 3], top + half, left + half); // Bas
+    }
+
+    static void write(LifeEngine life, PatternIO.ByteOutput out) throws IOException { // Écrit l'état courant du moteur
+        HashLife h; // Quadtree à écrire
+        if (life instanceof HashLife) h = (HashLife) life; // Celui du moteur, parcouru sans copie
+        else { // Autre moteur : construit le quadtree canonique (partagé, donc compact) à partir des cellules
+            HashLife scratch = new HashLife(life.getRows(), life.getCols()); // Moteur temporaire
+            life.forEachAlive((r, c) -> scratch.setAlive(r, c, true)); // Recopie les cellules vivantes
+            h = scratch; // Quadtree à écrire
+        }
+        out.write("[M2] (conway)\n#R "); out.write(life.getRule().toString()); out.write("\n#G "); out.writeNumber(life.getGeneration()); out.write('\n'); // En-tête
+        HashLife.Node root = h.getRoot(); // Racine du monde
+        if (root.population == 0) { out.write("$\n"); } // Monde vide : une feuille vide
+        else new Writer(out).node(root); // Nœuds dans l'ordre des quadrants, la racine en dernier
+        out.flush(); // Vide le tampon
+    }
+
+    private static final class Writer { // Écrit chaque nœud distinct une seule fois
+        private final PatternIO.ByteOutput out; // Destination
+        private final LongIntMap lines = new LongIntMap(); // Identifiant de nœud -> numéro de ligne déjà écrite
+        private int next = 1; // Numéro de la prochaine ligne
+
+        Writer(PatternIO.ByteOutput out) { this.out = out; } // Constructeur
+
+        int node(HashLife.Node n) throws IOException { // Écrit n (et ses quadrants) ; renvoie son numéro de ligne
+            if (n.population == 0) return 0; // Nœud vide : jamais écrit
+            int line = lines.get(n.id); // Déjà écrit ?
+            if (line != 0) return line; // Partagé : même numéro
+            if (n.level == LEAF_LEVEL) { // Feuille 8x8
+                leaf(bits(n, 0, 0, 0L)); // Texte de la feuille
+            } else {
+                int nw = node(n.nw), ne = node(n.ne), sw = node(n.sw), se = node(n.se); // Quadrants d'abord
+                out.writeNumber(n.level); out.write(' '); out.writeNumber(nw); out.write(' '); out.writeNumber(ne); // Niveau, haut
+                out.write(' '); out.writeNumber(sw); out.write(' '); out.writeNumber(se); out.write('\n'); // Bas
+            }
+            lines.put(n.id, next); // Mémorise le numéro
+            return next++; // Numéro de ce nœud
+        }
+
+        private static long bits(HashLife.Node n, int r0, int c0, long acc) { // Cellules d'un sous-carré de la feuille (bit r*8+c)
+            if (n.population == 0) return acc; // Rien à ajouter
+            if (n.level == 0) return acc | 1L << (r0 * 8 + c0); // Cellule vivante
+            int h = 1 << (n.level - 1); // Demi-côté
+            acc = bits(n.nw, r0, c0, acc); acc = bits(n.ne, r0, c0 + h, acc); // Quadrants du haut
+            acc = bits(n.sw, r0 + h, c0, acc); return bits(n.se, r0 + h, c0 + h, acc); // Quadrants du bas
+        }
+
+        private void leaf(long bits) throws IOException { // Écrit une feuille : '.' et '*', fins de ligne omises
+            for (int r = 0; r < 8 && bits >>> (r * 8) != 0; r++) { // Jusqu'à la dernière ligne non vide
+                int row = (int) (bits >>> (r * 8)) & 0xff; // Cellules de la ligne
+                for (int c = 0; row >>> c != 0; c++) out.write((row >>> c & 1) != 0 ? '*' : '.'); // Jusqu'à la dernière vivante
+                out.write('$'); // Fin de ligne
+            }
+            out.write('\n'); // Fin du nœud
+        }
+    }
+} // Fin de la classe MacrocellFormat
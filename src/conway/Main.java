@@ -0,0 +1,62 @@
+package conway;
+
+import javax.swing.*; // Importe les classes de Swing (fenêtres, composants UI)
+import java.awt.*; // Importe les classes AWT (layouts, dimensions, etc.)
+
+public class Main { // Point d'entrée de l'application
+    public static void main(String[] args) { // Méthode main, démarrage du programme
+        if (args.length > 0 && args[0].equals("--batch")) { // Mode sans affichage (serveurs, mesures)
+            BatchRunner.main(java.util.Arrays.copyOfRange(args, 1, args.length)); // Délègue au lanceur en ligne de commande
+            return; // Aucune fenêtre n'est créée
+        }
+        if (args.length > 0 && args[0].equals("--search")) { // Recensement de soupes aléatoires
+            SoupSearch.main(java.util.Arrays.copyOfRange(args, 1, args.length)); // Délègue au lanceur en ligne de commande
+            return; // Aucune fenêtre n'est créée
+        }
+        String engine = System.getProperty("life.engine", "sparse"); // Moteur par défaut (surchargé par -Dlife.engine=...)
+        int threads = 0; // Nombre de threads de calcul (0 = réglage par défaut du moteur)
+        Rule rule = Rule.CONWAY; // Règle initiale
+        int rows = 40, cols = 60; // Zone par défaut (limites du monde pour les moteurs dense et torus)
+        for (String arg : args) { // Parcourt les arguments de la ligne de commande
+            if (arg.startsWith("--engine=")) engine = arg.substring("--engine=".length()); // --engine=sparse|tiled|parallel|hashlife|dense|torus
+            if (arg.startsWith("--threads=")) threads = Integer.parseInt(arg.substring("--threads=".length())); // Threads de calcul
+            if (arg.startsWith("--size=")) { // Taille RxC de la zone par défaut
+                String size = arg.substring("--size=".length()); // Valeur de l'option
+                int x = size.indexOf('x'); // Séparateur
+                if (x < 0) throw new IllegalArgumentException("size must be ROWSxCOLS: " + size); // Format invalide
+                rows = Integer.parseInt(size.substring(0, x)); cols = Integer.parseInt(size.substring(x + 1)); // Dimensions
+            }
+            if (arg.startsWith("--rule=")) rule = Rule.parse(arg.substring("--rule=".length())); // Règle B/S (ex. B36/S23)
+        }
+        final String engineName = engine; // Copie finale pour le lambda
+        final int threadCount = threads; // Copie finale pour le lambda
+        final Rule initialRule = rule; // Copie finale pour le lambda
+        final int worldRows = rows, worldCols = cols; // Copies finales pour le lambda
+        SwingUtilities.invokeLater(() -> { // Programme l'exécution sur le thread d'UI Swing (EDT)
+            createAndShowUI(engineName, threadCount, initialRule, worldRows, worldCols); // Crée et affiche l'interface utilisateur
+        }); // Fin du lambda invokeLater
+    }
+
+    private static void createAndShowUI(String engine, int threads, Rule rule, int rows, int cols) { // Construit la fenêtre principale et les panneaux
+        LifeEngine life = LifeEngine.create(engine, rows, cols); // Crée le modèle du Jeu de la vie avec le moteur choisi
+        if (threads > 0) life.setThreads(threads); // Applique le nombre de threads demandé
+        life.setRule(rule); // Applique la règle demandée
+
+        JFrame frame = new JFrame("Jeu de la vie de Conway"); // Fenêtre principale avec titre
+        frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE); // Quitter l'application à la fermeture de la fenêtre
+
+        Simulation sim = new Simulation(life); // Thread de simulation (le calcul quitte l'EDT)
+        sim.getMetrics().register(); // Mesures consultables par JMX (JConsole, VisualVM)
+        LifePanel lifePanel = new LifePanel(sim); // Panneau de dessin de la grille et des cellules
+        ControlPanel controls = new ControlPanel(sim, lifePanel); // Panneau de commandes (boutons, slider, etc.)
+
+        frame.setLayout(new BorderLayout()); // Utilise un BorderLayout pour organiser les panneaux
+        frame.add(lifePanel, BorderLayout.CENTER); // Place la grille au centre
+        frame.add(controls, BorderLayout.SOUTH); // Place les contrôles en bas
+
+        frame.pack(); // Calcule la taille optimale de la fenêtre en fonction du contenu
+        frame.setLocationRelativeTo(null); // Centre la fenêtre sur l'écran
+        frame.setVisible(true); // Affiche la fenêtre
+        sim.start(); // Démarre le thread de simulation
+    }
+}
\ No newline at end of file
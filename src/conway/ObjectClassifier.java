@@ -0,0 +1,148 @@
+package conway;
+
+import java.util.ArrayList; // Importe ArrayList pour les composantes et les phases
+import java.util.Arrays; // Importe Arrays pour trier et comparer les cellules normalisées
+import java.util.function.Consumer; // Importe Consumer pour transmettre les codes des objets trouvés
+
+// Découpe un monde stabilisé en objets et nomme chacun par un code canonique proche des apgcodes de Catagolue :
+// préfixe « xs<population> » (nature morte), « xp<période> » (oscillateur) ou « xq<période> » (vaisseau), puis
+// « _ » et le motif en notation de Wechsler étendue (bandes de 5 lignes, une colonne = un chiffre en base 32,
+// bandes séparées par 'z', suites de colonnes vides abrégées en 'w', 'x' ou 'y' + longueur). Le code retenu est
+// le plus court, puis le plus petit, parmi les 8 orientations de chaque phase : il ne dépend ni de la position,
+// ni de l'orientation, ni de la phase. Deux cellules à moins de 3 cases l'une de l'autre appartiennent au même
+// objet, si bien que des natures mortes accolées (pseudo-objets) forment un seul code.
+// Chaque objet est rejoué seul sur un monde clairsemé : s'il ne revient pas à sa forme initiale en au plus
+// MAX_PERIOD générations, il est compté comme UNSTABLE. Une instance par thread (le monde de rejeu est réutilisé).
+final class ObjectClassifier { // Recensement des objets d'un monde, sur le thread appelant
+    static final int MAX_PERIOD = 128; // Plus longue période reconnue
+    static final String UNSTABLE = "zz_UNSTABLE"; // Code des objets qui ne se répètent pas seuls
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz"; // Chiffres des colonnes (base 32) et des longueurs
+    private static final int RADIUS = 2; // Distance (Chebyshev) en deçà de laquelle deux cellules sont du même objet
+
+    private final GameOfLife scratch = new GameOfLife(16, 16); // Monde de rejeu d'un objet isolé
+    private final LongHashSet remaining = new LongHashSet(); // Cellules pas encore rattachées à un objet
+    private long[] stack = new long[256]; // Pile du parcours des composantes (réutilisée)
+
+    ObjectClassifier(Rule rule) { scratch.setRule(rule); } // Objets rejoués sous la règle du monde
+
+    void census(LifeEngine world, Consumer<String> sink) { // Transmet le code de chaque objet du monde
+        remaining.clear(); // Repart d'un ensemble vide
+        long[] all = new long[(int) world.getPopulation()]; // Cellules vivantes (les retraits déplacent les cases de l'ensemble)
+        int[] n = { 0 }; // Remplissage
+        world.forEachAlive((r, c) -> { long k = key(r, c); all[n[0]++] = k; remaining.add(k); }); // Cellules à répartir
+        ArrayList<long[]> objects = new ArrayList<>(); // Composantes trouvées
+        for (long seed : all) { // Chaque cellule encore libre ouvre un objet
+            if (remaining.remove(seed)) objects.add(component(seed)); // Toutes les cellules proches, de proche en proche
+        }
+        for (long[] cells : objects) sink.accept(classify(cells)); // Nomme chaque objet
+    }
+
+    private long[] component(long seed) { // Cellules reliées à seed (retirées de remaining)
+        int top = 0, size = 0; // Sommet de pile et taille de la composante
+        long[] cells = new long[16]; // Cellules de la composante
+        stack[top++] = seed; // Point de départ
+        while (top > 0) { // Parcours en profondeur
+            long k = stack[--top]; // Cellule courante
+            if (size == cells.length) cells = Arrays.copyOf(cells, size * 2); // Agrandit
+            cells[size++] = k; // Ajoute à l'objet
+            int r = (int) (k >> 32), c = (int) k; // Coordonnées
+            for (int dr = -RADIUS; dr <= RADIUS; dr++) for (int dc = -RADIUS; dc <= RADIUS; dc++) { // Voisinage élargi
+                long nk = key(r + dr, c + dc); // Cellule proche
+                if (!remaining.remove(nk)) continue; // Morte ou déjà rattachée
+                if (top == stack.length) stack = Arrays.copyOf(stack, top * 2); // Agrandit la pile
+                stack[top++] = nk; // À explorer
+            }
+        }
+        return Arrays.copyOf(cells, size); // Composante complète
+    }
+
+    String classify(long[] cells) { // Code canonique d'un objet isolé
+        GameOfLife g = scratch; // Monde de rejeu
+        g.clear(); // Vide
+        for (long k : cells) g.setAlive((int) (k >> 32), (int) k, true); // Pose l'objet
+        ArrayList<long[]> phases = new ArrayList<>(); // Formes normalisées des phases successives
+        int[] corner = new int[2]; // Coin haut-gauche de la phase courante
+        long[] first = normalized(g, corner); // Phase initiale
+        int top0 = corner[0], left0 = corner[1]; // Position initiale
+        phases.add(first); // Phase 0
+        for (int t = 1; t <= MAX_PERIOD; t++) { // Rejoue jusqu'à retrouver la forme initiale
+            g.step(); // Génération suivante
+            if (g.getPopulation() == 0) return UNSTABLE; // L'objet s'éteint seul : il n'était pas stable
+            long[] p = normalized(g, corner); // Forme courante
+            if (Arrays.equals(p, first)) { // Même forme : période t, déplacement depuis la position initiale
+                boolean moving = corner[0] != top0 || corner[1] != left0; // Vaisseau ?
+                String prefix = moving ? "xq" + t : t == 1 ? "xs" + first.length : "xp" + t; // Famille de l'objet
+                return prefix + "_" + canonical(phases); // Code complet
+            }
+            phases.add(p); // Phase suivante
+        }
+        return UNSTABLE; // Pas de retour à la forme initiale
+    }
+
+    private static long[] normalized(GameOfLife g, int[] corner) { // Cellules relatives au coin haut-gauche, triées
+        long[] cells = new long[(int) g.getPopulation()]; // Une clé par cellule
+        int[] box = { Integer.MAX_VALUE, Integer.MAX_VALUE, 0 }; // Coin haut-gauche et remplissage
+        g.forEachAlive((r, c) -> { // Recense et cherche le coin
+            cells[box[2]++] = key(r, c); // Clé absolue
+            box[0] = Math.min(box[0], r); box[1] = Math.min(box[1], c); // Coin
+        });
+        for (int i = 0; i < cells.length; i++) { // Ramène au coin
+            long k = cells[i]; // Clé absolue
+            cells[i] = (long) ((int) (k >> 32) - box[0]) << 32 | ((int) k - box[1]); // Coordonnées positives
+        }
+        Arrays.sort(cells); // Ordre de lecture : comparaison directe
+        corner[0] = box[0]; corner[1] = box[1]; // Position de la phase
+        return cells; // Forme normalisée
+    }
+
+    private static String canonical(ArrayList<long[]> phases) { // Plus court puis plus petit code sur phases et orientations
+        String best = null; // Meilleur code trouvé
+        for (long[] cells : phases) { // Chaque phase
+            for (int o = 0; o < 8; o++) { // Chaque orientation (4 rotations, avec ou sans miroir)
+                String code = wechsler(cells, o); // Code de cette orientation
+                if (best == null || code.length() < best.length() || (code.length() == best.length() && code.compareTo(best) < 0)) best = code; // Meilleur
+            }
+        }
+        return best; // Code canonique
+    }
+
+    private static String wechsler(long[] cells, int orientation) { // Notation de Wechsler étendue d'une orientation
+        int n = cells.length; // Nombre de cellules
+        int[] rs = new int[n], cs = new int[n]; // Coordonnées transformées
+        int h = 0, w = 0, minR = Integer.MAX_VALUE, minC = Integer.MAX_VALUE; // Étendue
+        for (int i = 0; i < n; i++) { // Transforme chaque cellule
+            int r = (int) (cells[i] >> 32), c = (int) cells[i]; // Coordonnées normalisées
+            if ((orientation & 4) != 0) { int t = r; r = c; c = t; } // Transposition
+            if ((orientation & 1) != 0) r = -r; // Miroir vertical
+            if ((orientation & 2) != 0) c = -c; // Miroir horizontal
+            rs[i] = r; cs[i] = c; minR = Math.min(minR, r); minC = Math.min(minC, c); // Coin
+        }
+        for (int i = 0; i < n; i++) { rs[i] -= minR; cs[i] -= minC; h = Math.max(h, rs[i] + 1); w = Math.max(w, cs[i] + 1); } // Ramène au coin
+        int strips = (h + 4) / 5; // Bandes de 5 lignes
+        int[] cols = new int[strips * w]; // Valeur de chaque colonne de chaque bande (bit = ligne dans la bande)
+        for (int i = 0; i < n; i++) cols[(rs[i] / 5) * w + cs[i]] |= 1 << (rs[i] % 5); // Pose les cellules
+        StringBuilder sb = new StringBuilder(); // Code
+        for (int s = 0; s < strips; s++) { // Chaque bande
+            if (s > 0) sb.append('z'); // Séparateur de bandes
+            int end = w; // Colonnes utiles : les colonnes vides finales sont omises
+            while (end > 0 && cols[s * w + end - 1] == 0) end--; // Retire la fin vide
+            for (int x = 0; x < end; ) { // Colonnes de la bande
+                int v = cols[s * w + x]; // Valeur de la colonne
+                if (v != 0) { sb.append(DIGITS.charAt(v)); x++; continue; } // Colonne non vide
+                int zeros = 0; // Longueur de la suite de colonnes vides
+                while (x < end && cols[s * w + x] == 0) { zeros++; x++; } // Mesure la suite
+                while (zeros > 0) { // Abréviations : w = 2, x = 3, y? = 4..39
+                    if (zeros >= 4) { int m = Math.min(zeros, 39); sb.append('y').append(DIGITS.charAt(m - 4)); zeros -= m; } // Longue suite
+                    else if (zeros == 3) { sb.append('x'); zeros = 0; } // Trois colonnes vides
+                    else if (zeros == 2) { sb.append('w'); zeros = 0; } // Deux colonnes vides
+                    else { sb.append('0'); zeros = 0; } // Une colonne vide
+                }
+            }
+        }
+        return sb.toString(); // Code de l'orientation
+    }
+
+    private static long key(int r, int c) { // Encode une paire (r,c) dans un long
+        return (((long) r) << 32) ^ (((long) c) & 0xffffffffL); // Même encodage que GameOfLife
+    }
+} // Fin de la classe ObjectClassifier
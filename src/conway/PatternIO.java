@@ -0,0 +1,230 @@
+package conway;
+
+import java.io.BufferedReader; // Importe la lecture ligne par ligne des fichiers de motifs
+import java.io.IOException; // Importe l'exception d'entrée/sortie
+import java.io.Reader; // Importe la source de caractères d'un motif
+import java.io.Writer; // Importe la destination de caractères d'un motif
+import java.nio.ByteBuffer; // Importe le tampon d'échange avec les canaux
+import java.nio.channels.Channels; // Importe la conversion canal -> flux de caractères (.cells)
+import java.nio.channels.FileChannel; // Importe l'accès aux fichiers par canal
+import java.nio.channels.ReadableByteChannel; // Importe la source d'octets des lectures en continu
+import java.nio.channels.WritableByteChannel; // Importe la destination d'octets des écritures en continu
+import java.nio.charset.StandardCharsets; // Importe l'encodage des fichiers texte
+import java.nio.file.Path; // Importe les chemins de fichiers
+import java.nio.file.StandardOpenOption; // Importe les options d'ouverture des fichiers
+import java.util.Arrays; // Importe Arrays pour agrandir et trier les tableaux de cellules
+import java.util.Locale; // Importe Locale pour comparer les extensions sans tenir compte de la casse
+
+// Import/export de motifs. Le format est choisi d'après l'extension du fichier :
+//   .rle   : Run Length Encoded (RleFormat), lu et écrit en continu ;
+//   .mc    : Macrocell, quadtree compressé (MacrocellFormat), lu et écrit en continu ;
+//   .cells : texte « plaintext », une ligne de texte par ligne de cellules ('O' ou '*' = vivante, '.' = morte) ;
+//   .ckpt  : sauvegarde binaire compacte (Checkpoint), qui remplace le monde et restaure la génération.
+// Les formats en continu passent par des canaux NIO et des tampons d'octets réutilisés : ni chaîne ni objet par cellule.
+final class PatternIO { // Utilitaires statiques, aucune instance
+    private static final int BUFFER_SIZE = 1 << 16; // Taille des tampons d'entrée/sortie (64 Ko)
+
+    private PatternIO() { } // Classe non instanciable
+
+    // Ajoute le motif du fichier au monde du moteur (.ckpt : le remplace). Lecture en continu : en cas d'erreur de format,
+    // les cellules déjà lues restent posées.
+    static void load(Path path, LifeEngine life) throws IOException {
+        String ext = extension(path); // Format d'après l'extension
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) { // Lecture par canal
+            switch (ext) { // Format reconnu ?
+                case "rle": RleFormat.read(new ByteInput(ch), life); break; // Run Length Encoded
+                case "mc": MacrocellFormat.read(new ByteInput(ch), life); break; // Macrocell
+                case "ckpt": Checkpoint.read(Channels.newInputStream(ch), life); break; // Sauvegarde binaire (remplace le monde)
+                case "cells": place(life, readCells(Channels.newReader(ch, StandardCharsets.UTF_8.newDecoder(), -1)), true); break; // Texte
+                default: throw new IllegalArgumentException("unknown pattern format: " + path); // Extension inconnue
+            }
+        }
+    }
+
+    static void save(LifeEngine life, Path path) throws IOException { // Écrit l'état courant du moteur dans un fichier
+        String ext = extension(path); // Format d'après l'extension
+        if (!ext.equals("rle") && !ext.equals("mc") && !ext.equals("cells") && !ext.equals("ckpt")) throw new IllegalArgumentException("unknown pattern format: " + path); // Avant de créer le fichier
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) { // Écriture par canal
+            String name = path.getFileName().toString(); // Nom du motif
+            if (ext.equals("rle")) RleFormat.write(life, new ByteOutput(ch)); // Run Length Encoded
+            else if (ext.equals("mc")) MacrocellFormat.write(life, new ByteOutput(ch)); // Macrocell
+            else if (ext.equals("ckpt")) Checkpoint.write(life, Channels.newOutputStream(ch), true); // Sauvegarde binaire compressée
+            else writeCells(life, Channels.newWriter(ch, StandardCharsets.UTF_8.newEncoder(), -1), name); // Texte
+        }
+    }
+
+    private static String extension(Path path) { // Extension du fichier en minuscules ("" si aucune)
+        String name = path.getFileName().toString(); // Nom du fichier
+        int dot = name.lastIndexOf('.'); // Dernier point
+        return dot < 0 ? "" : name.substring(dot + 1).toLowerCase(Locale.ROOT); // Extension
+    }
+
+    static long[] readCells(Reader in) throws IOException { // Lit un motif .cells ; renvoie les clés (r,c), coin en (0,0)
+        BufferedReader reader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in); // Lecture par lignes
+        long[] cells = new long[64]; // Cellules lues (clé long comme GameOfLife)
+        int n = 0; // Nombre de cellules lues
+        int row = 0; // Ligne courante du motif
+        for (String line; (line = reader.readLine()) != null; ) { // Pour chaque ligne du fichier
+            if (line.startsWith("!")) continue; // Commentaire (nom, auteur, ...)
+            for (int c = 0; c < line.length(); c++) { // Pour chaque caractère de la ligne
+                char ch = line.charAt(c); // Caractère courant
+                if (ch == 'O' || ch == '*') { // Cellule vivante
+                    if (n == cells.length) cells = Arrays.copyOf(cells, n * 2); // Agrandit le tableau
+                    cells[n++] = key(row, c); // Mémorise la cellule
+                } else if (ch != '.' && ch != ' ' && ch != '\t') { // Tout autre caractère est une erreur de format
+                    throw new IllegalArgumentException("invalid character '" + ch + "' at line " + (row + 1)); // Format invalide
+                }
+            }
+            row++; // Ligne suivante
+        }
+        return Arrays.copyOf(cells, n); // Tableau exact
+    }
+
+    static void place(LifeEngine life, long[] cells, boolean centered) { // Pose les cellules lues dans un moteur
+        int maxR = 0, maxC = 0; // Étendue du motif
+        for (long k : cells) { maxR = Math.max(maxR, (int) (k >> 32)); maxC = Math.max(maxC, (int) k); } // Coin bas-droit
+        int dr = centered ? -(maxR + 1) / 2 : 0, dc = centered ? -(maxC + 1) / 2 : 0; // Décalage (centre du motif en 0,0)
+        for (long k : cells) life.setAlive((int) (k >> 32) + dr, (int) k + dc, true); // Fait naître chaque cellule
+    }
+
+    static void writeCells(LifeEngine life, Writer out, String name) throws IOException { // Écrit l'état courant au format .cells
+        long[] cells = new long[(int) Math.min(Integer.MAX_VALUE - 8, life.getPopulation())]; // Une clé par cellule vivante
+        int[] n = {0}, min = {Integer.MAX_VALUE, Integer.MAX_VALUE}; // Compteur et coin haut-gauche
+        life.forEachAlive((r, c) -> { // Recense les cellules vivantes
+            cells[n[0]++] = key(r, c); // Mémorise la cellule
+            min[0] = Math.min(min[0], r); min[1] = Math.min(min[1], c); // Met à jour le coin
+        });
+        for (int i = 0; i < n[0]; i++) { // Recode relativement au coin : l'ordre des clés devient l'ordre de lecture
+            long k = cells[i]; // Clé absolue
+            cells[i] = ((long) ((int) (k >> 32) - min[0]) << 32) | (((int) k - min[1]) & 0xffffffffL); // Clé relative positive
+        }
+        Arrays.sort(cells, 0, n[0]); // Tri par ligne puis par colonne
+        out.write("!Name: " + name + "\n"); // En-tête
+        out.write("!Generation: " + life.getGeneration() + " origin: " + (n[0] == 0 ? "0,0" : min[0] + "," + min[1]) + "\n"); // Position d'origine
+        StringBuilder line = new StringBuilder(); // Ligne en cours de construction
+        int row = 0; // Ligne courante
+        for (int i = 0; i < n[0]; i++) { // Pour chaque cellule dans l'ordre de lecture
+            int r = (int) (cells[i] >>> 32), c = (int) cells[i]; // Coordonnées relatives
+            while (row < r) { out.write(line.append('\n').toString()); line.setLength(0); row++; } // Termine les lignes précédentes
+            while (line.length() < c) line.append('.'); // Cellules mortes jusqu'à la colonne
+            line.append('O'); // Cellule vivante
+        }
+        if (n[0] > 0) out.write(line.append('\n').toString()); // Dernière ligne
+        out.flush(); // Vide le tampon
+    }
+
+    interface OrderedCellVisitor { void visit(long r, long c) throws IOException; } // Reçoit les cellules dans l'ordre de lecture
+
+    private static final int BAND = 64; // Lignes lues par requête de zone (moteurs indexés)
+
+    // Transmet les cellules vivantes du rectangle englobant [top,bottom]x[left,right] (population cellules) dans l'ordre
+    // de lecture, ligne puis colonne. Avec un index spatial, le monde est lu par bandes de BAND lignes, chacune triée :
+    // la mémoire reste bornée par la bande. Sans index (moteur clairsemé), chaque bande parcourrait tout l'ensemble
+    // (coût population x hauteur / BAND pour un monde haut et clairsemé) : les clés sont copiées et triées une seule fois.
+    static void forEachAliveInOrder(LifeEngine life, long top, long left, long bottom, long right, long population,
+                                    OrderedCellVisitor visitor) throws IOException {
+        if (population == 0) return; // Monde vide
+        if (!life.hasSpatialIndex() && population <= Integer.MAX_VALUE - 8) { // Un seul parcours, un seul tri
+            long[] keys = new long[(int) population]; // Une clé par cellule vivante
+            int[] n = { 0 }; // Remplissage
+            life.forEachAlive((r, c) -> keys[n[0]++] = ((long) r << 32) | (((long) c - left) & 0xffffffffL)); // Ligne signée, colonne relative
+            Arrays.sort(keys, 0, n[0]); // Tri par ligne puis par colonne
+            for (int i = 0; i < n[0]; i++) visitor.visit(keys[i] >> 32, left + (keys[i] & 0xffffffffL)); // Coordonnées absolues
+            return; // Terminé
+        }
+        long[] band = new long[1024]; // Cellules de la bande courante (clé relative, réutilisé)
+        int right1 = (int) Math.min(Integer.MAX_VALUE, right + 1); // Borne droite exclue
+        for (long r0 = top; r0 <= bottom; r0 += BAND) { // Bande par bande, dans l'ordre des lignes
+            int r1 = (int) Math.min(bottom + 1, r0 + BAND); // Fin de la bande (exclue)
+            long[][] buf = { band }; int[] n = { 0 }; // Tampon (agrandi au besoin) et remplissage
+            long bandTop = r0; // Première ligne de la bande
+            life.forEachAliveIn((int) r0, (int) left, r1, right1, (r, c) -> { // Cellules de la bande (ordre quelconque)
+                if (n[0] == buf[0].length) buf[0] = Arrays.copyOf(buf[0], n[0] * 2); // Agrandit le tampon
+                buf[0][n[0]++] = ((r - bandTop) << 32) | ((long) c - left); // Ordre des clés = ordre de lecture
+            });
+            band = buf[0]; // Conserve le tampon agrandi
+            Arrays.sort(band, 0, n[0]); // Tri par ligne puis par colonne
+            for (int i = 0; i < n[0]; i++) visitor.visit(bandTop + (band[i] >>> 32), left + (band[i] & 0xffffffffL)); // Chaque cellule
+        }
+    }
+
+    static long parseGeneration(String text, long line) { // Génération enregistrée (« #G » Macrocell, « Gen= » RLE)
+        try {
+            long g = Long.parseLong(text); // Nombre décimal
+            if (g >= 0) return g; // Génération valide
+        } catch (NumberFormatException ex) { // Texte non numérique : signalé ci-dessous
+        }
+        throw new IllegalArgumentException("invalid generation '" + text + "' at line " + line); // Format invalide
+    }
+
+    private static long key(int r, int c) { // Encode une paire (r,c) dans un long
+        return (((long) r) << 32) ^ (((long) c) & 0xffffffffL); // Même encodage que GameOfLife
+    }
+
+    static final class ByteInput { // Lecture octet par octet depuis un canal, via un tableau réutilisé
+        private final ReadableByteChannel channel; // Source des octets
+        private final byte[] buf = new byte[BUFFER_SIZE]; // Tampon de lecture
+        private final ByteBuffer wrapper = ByteBuffer.wrap(buf); // Vue NIO du tampon
+        private int pos, limit; // Prochain octet à lire et fin des octets valides
+        private long line = 1; // Numéro de ligne courant (messages d'erreur)
+
+        ByteInput(ReadableByteChannel channel) { this.channel = channel; } // Constructeur
+
+        int read() throws IOException { // Octet suivant (0..255) ou -1 en fin de flux
+            if (pos == limit && !fill()) return -1; // Tampon épuisé et fin du flux
+            int b = buf[pos++] & 0xff; // Octet non signé
+            if (b == '\n') line++; // Compte les lignes
+            return b; // Octet lu
+        }
+
+        String readLine() throws IOException { // Reste de la ligne courante (en-têtes et commentaires seulement)
+            StringBuilder sb = new StringBuilder(); // Texte de la ligne
+            for (int b = read(); b >= 0 && b != '\n'; b = read()) if (b != '\r') sb.append((char) b); // Jusqu'au saut de ligne
+            return sb.toString(); // Ligne lue
+        }
+
+        long line() { return line; } // Ligne courante
+
+        private boolean fill() throws IOException { // Recharge le tampon depuis le canal
+            wrapper.clear(); // Tout le tableau est disponible
+            int n; // Octets lus
+            do { n = channel.read(wrapper); } while (n == 0); // Un canal bloquant finit toujours par lire
+            pos = 0; limit = Math.max(n, 0); // Nouvelle fenêtre
+            return n > 0; // false en fin de flux
+        }
+    }
+
+    static final class ByteOutput { // Écriture octet par octet vers un canal, via un tableau réutilisé
+        private final WritableByteChannel channel; // Destination des octets
+        private final byte[] buf = new byte[BUFFER_SIZE]; // Tampon d'écriture
+        private final ByteBuffer wrapper = ByteBuffer.wrap(buf); // Vue NIO du tampon
+        private final byte[] digits = new byte[20]; // Chiffres d'un nombre en cours d'écriture
+        private int pos; // Prochaine case libre du tampon
+
+        ByteOutput(WritableByteChannel channel) { this.channel = channel; } // Constructeur
+
+        void write(int b) throws IOException { // Écrit un octet
+            if (pos == buf.length) drain(); // Tampon plein
+            buf[pos++] = (byte) b; // Ajoute l'octet
+        }
+
+        void write(String s) throws IOException { for (int i = 0; i < s.length(); i++) write(s.charAt(i)); } // Texte ASCII
+
+        int writeNumber(long v) throws IOException { // Écrit un entier en décimal ; renvoie le nombre de caractères
+            int n = 0; // Nombre de caractères écrits
+            if (v < 0) { write('-'); n++; v = -v; } // Signe (les coordonnées peuvent être négatives)
+            int d = 0; // Nombre de chiffres
+            do { digits[d++] = (byte) ('0' + v % 10); v /= 10; } while (v > 0); // Chiffres, du plus faible au plus fort
+            while (d > 0) { write(digits[--d]); n++; } // Écrit dans l'ordre
+            return n; // Longueur écrite
+        }
+
+        void flush() throws IOException { drain(); } // Vide le tampon vers le canal
+
+        private void drain() throws IOException { // Écrit tout le contenu du tampon
+            wrapper.clear().limit(pos); // Octets valides
+            while (wrapper.hasRemaining()) channel.write(wrapper); // Un canal peut écrire partiellement
+            pos = 0; // Tampon vide
+        }
+    }
+} // Fin de la classe PatternIO
@@ -0,0 +1,144 @@
+package conway;
+
+import java.io.IOException; // Importe l'exception d'entrée/sortie
+
+// Format RLE (Run Length Encoded) : en-tête « x = largeur, y = hauteur, rule = B36/S23 », puis des suites
+// « nombre + symbole » ('b' = morte, 'o' = vivante, '$' = fin de ligne, '!' = fin du motif).
+// La lecture est un automate octet par octet qui pose directement les cellules dans le moteur ; l'écriture
+// reçoit les cellules dans l'ordre de lecture (PatternIO.forEachAliveInOrder : bandes de lignes pour les moteurs
+// indexés, un seul tri des clés pour le moteur clairsemé).
+// La position et la génération sont conservées par la ligne « #CXRLE Pos=x,y Gen=n » (extension de Golly) ;
+// sans position, le motif est centré.
+final class RleFormat { // Utilitaires statiques, aucune instance
+    private static final int LINE_WIDTH = 70; // Largeur maximale d'une ligne du fichier
+
+    private RleFormat() { } // Classe non instanciable
+
+    static void read(PatternIO.ByteInput in, LifeEngine life) throws IOException { // Ajoute le motif lu au monde
+        long top = 0, left = 0, width = 0, height = 0; // Position et taille annoncées
+        boolean positioned = false; // Position explicite trouvée ?
+        long generation = -1; // Génération lue dans « Gen= » (-1 : absente, celle du moteur est conservée)
+        int b = in.read(); // Premier octet
+        while (true) { // Commentaires et en-tête
+            while (b == ' ' || b == '\t' || b == '\r' || b == '\n') b = in.read(); // Ignore les blancs
+            if (b == '#') { // Ligne de commentaire
+                String line = in.readLine(); // Contenu du commentaire
+                if (line.startsWith("CXRLE")) { // Extension de Golly : #CXRLE Pos=x,y Gen=n (champs facultatifs)
+                    for (String field : line.substring(5).trim().split("\\s+")) { // Champs « nom=valeur »
+                        if (field.startsWith("Pos=")) { // Coin haut-gauche
+                            String[] xy = field.substring(4).split(","); // x puis y
+                            left = Long.parseLong(xy[0]); top = Long.parseLong(xy[1]); positioned = true; // Position explicite
+                        } else if (field.startsWith("Gen=")) { // Génération du motif
+                            generation = PatternIO.parseGeneration(field.substring(4), in.line()); // Valeur validée
+                        }
+                    }
+                } else if (line.startsWith("P ") || line.startsWith("R ")) { // Coin haut-gauche (#P x y, #R x y)
+                    String[] xy = line.substring(2).trim().split("\\s+"); // x puis y
+                    left = Long.parseLong(xy[0]); top = Long.parseLong(xy[1]); positioned = true; // Coin haut-gauche
+                }
+                b = in.read(); // Ligne suivante
+                continue; // Autre commentaire ou en-tête
+            }
+            if (b == 'x') { // En-tête : x = m, y = n, rule = ...
+                for (String field : ("x" + in.readLine()).split(",(?=\\s*\\w+\\s*=)")) { // Champs « nom = valeur » (la règle peut contenir des virgules)
+                    int eq = field.indexOf('='); // Séparateur nom/valeur
+                    if (eq < 0) throw new IllegalArgumentException("invalid RLE header: " + field.trim()); // Champ invalide
+                    String name = field.substring(0, eq).trim(), value = field.substring(eq + 1).trim(); // Nom et valeur
+                    if (name.equals("x")) width = Long.parseLong(value); // Largeur
+                    else if (name.equals("y")) height = Long.parseLong(value); // Hauteur
+                    else if (name.equals("rule")) life.setRule(Rule.parse(value)); // Règle du motif
+                }
+                b = in.read(); // Début du corps
+            }
+            break; // Corps du motif
+        }
+        if (!positioned) { top = -height / 2; left = -width / 2; } // Centre le motif sur l'origine
+        long row = top, col = left, count = 0; // Position courante et nombre en cours de lecture
+        for (; b >= 0 && b != '!'; b = in.read()) { // Jusqu'à la fin du motif
+            if (b >= '0' && b <= '9') { // Chiffre d'un nombre de répétitions
+                count = count * 10 + (b - '0'); // Accumule
+                if (count > Integer.MAX_VALUE) throw new IllegalArgumentException("run too long at line " + in.line()); // Débordement
+                continue; // Chiffre suivant
+            }
+            if (b == ' ' || b == '\t' || b == '\r' || b == '\n' || (b >= 'p' && b <= 'y')) continue; // Blancs, préfixes multi-états
+            long run = count == 0 ? 1 : count; // Répétitions du symbole
+            count = 0; // Nombre consommé
+            if (b == 'b' || b == '.') { // Cellules mortes
+                col += run; // Avance dans la ligne
+            } else if (b == '$') { // Fin(s) de ligne
+                row += run; col = left; // Ligne suivante, retour au bord gauche
+            } else if ((b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'X')) { // Cellules vivantes ('o', ou états A..X)
+                if (row < Integer.MIN_VALUE || row > Integer.MAX_VALUE || col < Integer.MIN_VALUE || col + run - 1 > Integer.MAX_VALUE) // Hors des int
+                    throw new IllegalArgumentException("pattern exceeds engine coordinates at line " + in.line()); // Trop grand
+                for (long i = 0; i < run; i++) life.setAlive((int) row, (int) (col + i), true); // Pose la suite
+                col += run; // Avance dans la ligne
+            } else {
+                throw new IllegalArgumentException("invalid RLE character '" + (char) b + "' at line " + in.line()); // Format invalide
+            }
+        }
+        if (generation >= 0) life.setGeneration(generation); // Reprend à la génération enregistrée
+    }
+
+    static void write(LifeEngine life, PatternIO.ByteOutput out) throws IOException { // Écrit l'état courant du moteur
+        long[] box = { Long.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, 0 }; // Rectangle englobant et nombre de cellules
+        life.forEachAlive((r, c) -> { // Premier passage : étendue du motif, sans rien stocker
+            box[0] = Math.min(box[0], r); box[1] = Math.min(box[1], c); // Coin haut-gauche
+            box[2] = Math.max(box[2], r); box[3] = Math.max(box[3], c); // Coin bas-droit
+            box[4]++; // Une cellule de plus
+        });
+        boolean empty = box[0] > box[2]; // Monde vide ?
+        long top = empty ? 0 : box[0], left = empty ? 0 : box[1]; // Coin du motif
+        long height = empty ? 0 : box[2] - top + 1, width = empty ? 0 : box[3] - left + 1; // Taille du motif
+        out.write("#CXRLE Pos="); out.writeNumber(left); out.write(','); out.writeNumber(top); // Position (extension Golly)
+        out.write(" Gen="); out.writeNumber(life.getGeneration()); out.write('\n'); // Génération
+        out.write("x = "); out.writeNumber(width); out.write(", y = "); out.writeNumber(height); // Taille
+        out.write(", rule = "); out.write(life.getRule().toString()); out.write('\n'); // Règle simulée
+        Encoder enc = new Encoder(out, top, left); // Encodeur des suites
+        PatternIO.forEachAliveInOrder(life, box[0], box[1], box[2], box[3], box[4], enc); // Cellules dans l'ordre de lecture
+        enc.finish(); // Termine la dernière suite
+        out.write("!\n"); // Fin du motif
+        out.flush(); // Vide le tampon
+    }
+
+    private static final class Encoder implements PatternIO.OrderedCellVisitor { // Encode des cellules triées en suites RLE
+        private final PatternIO.ByteOutput out; // Destination
+        private final long top, left; // Coin haut-gauche du motif
+        private long row, col; // Position courante de l'encodage (relative au coin)
+        private long runRow, runCol, run; // Suite de cellules vivantes en attente
+        private int lineLength; // Caractères déjà écrits sur la ligne du fichier
+
+        Encoder(PatternIO.ByteOutput out, long top, long left) { this.out = out; this.top = top; this.left = left; } // Constructeur
+
+        @Override
+        public void visit(long r, long c) throws IOException { cell(r - top, c - left); } // Cellule vivante (ordre de lecture)
+
+        private void cell(long r, long c) throws IOException { // Ajoute une cellule vivante (relative au coin)
+            if (run > 0 && r == runRow && c == runCol + run) { run++; return; } // Prolonge la suite vivante
+            flushRun(); // Termine la suite précédente
+            if (r > row) { token(r - row, '$'); row = r; col = 0; } // Fins de ligne (lignes vides comprises)
+            if (c > col) token(c - col, 'b'); // Cellules mortes avant la cellule
+            runRow = r; runCol = c; run = 1; // Nouvelle suite vivante
+        }
+
+        private void flushRun() throws IOException { // Écrit la suite vivante en attente
+            if (run == 0) return; // Aucune suite
+            token(run, 'o'); // Cellules vivantes
+            col = runCol + run; // Position après la suite
+            run = 0; // Suite écrite
+        }
+
+        void finish() throws IOException { // Termine l'encodage
+            flushRun(); // Dernière suite
+            if (lineLength > 0) { out.write('\n'); lineLength = 0; } // Termine la ligne (le '!' est écrit après)
+        }
+
+        private void token(long count, char symbol) throws IOException { // Écrit « nombre + symbole » (nombre omis si 1)
+            int length = 1; // Longueur du jeton : le symbole...
+            if (count > 1) for (long v = count; v > 0; v /= 10) length++; // ... et les chiffres du nombre
+            if (lineLength + length > LINE_WIDTH) { out.write('\n'); lineLength = 0; } // Retour à la ligne
+            if (count > 1) out.writeNumber(count); // Nombre de répétitions
+            out.write(symbol); // Symbole
+            lineLength += length; // Largeur consommée
+        }
+    }
+} // Fin de la classe RleFormat
@@ -0,0 +1,73 @@
+package conway;
+
+import java.util.Locale; // Importe Locale pour normaliser la notation
+
+// Règle « Life-like » (totalistique extérieure) en notation B/S : B = nombres de voisins qui font naître une
+// cellule morte, S = nombres de voisins qui maintiennent une cellule vivante. Conway = B3/S23, HighLife = B36/S23,
+// Seeds = B2/S, Day & Night = B3678/S34678. La forme historique « S/B » (ex. 23/3) est aussi acceptée.
+// Compilée en deux masques de 9 bits (bit n = n voisins) : les moteurs en dérivent leurs tables de décision.
+// Les règles B0 (naissance sans voisin) sont refusées : elles rempliraient instantanément un monde infini.
+public final class Rule { // Immuable, partageable entre threads
+    public static final Rule CONWAY = new Rule(1 << 3, (1 << 2) | (1 << 3)); // B3/S23
+
+    private final int birth; // Bit n posé : une cellule morte à n voisins naît
+    private final int survival; // Bit n posé : une cellule vivante à n voisins survit
+
+    private Rule(int birth, int survival) { this.birth = birth; this.survival = survival; } // Constructeur (masques valides)
+
+    public static Rule parse(String notation) { // Analyse « B36/S23 », « b36/s23 », « 23/36 » ; un suffixe « :T... » est ignoré
+        String s = notation.trim().toUpperCase(Locale.ROOT).replace(" ", ""); // Forme normalisée
+        int colon = s.indexOf(':'); // Suffixe de topologie (ex. :T100,100) ignoré : le monde est infini
+        if (colon >= 0) s = s.substring(0, colon); // Règle seule
+        int slash = s.indexOf('/'); // Séparateur des deux parties
+        if (slash < 0) throw new IllegalArgumentException("invalid rule: " + notation); // Une seule partie
+        String left = s.substring(0, slash), right = s.substring(slash + 1); // Deux parties
+        String b, sv; // Chiffres de naissance et de survie
+        if (left.startsWith("B") && right.startsWith("S")) { b = left.substring(1); sv = right.substring(1); } // B.../S...
+        else if (left.startsWith("S") && right.startsWith("B")) { sv = left.substring(1); b = right.substring(1); } // S.../B...
+        else { sv = left; b = right; } // Forme historique survie/naissance
+        int birth = digits(b, notation), survival = digits(sv, notation); // Masques
+        if ((birth & 1) != 0) throw new IllegalArgumentException("B0 rules are not supported: " + notation); // Monde infini
+        return of(birth, survival); // Règle compilée
+    }
+
+    static Rule of(int birth, int survival) { // Règle à partir des masques (Conway partagée)
+        if ((birth | survival) >>> 9 != 0) throw new IllegalArgumentException("neighbour counts must be 0..8"); // Masques invalides
+        return birth == CONWAY.birth && survival == CONWAY.survival ? CONWAY : new Rule(birth, survival); // Instance unique pour Conway
+    }
+
+    private static int digits(String s, String notation) { // Masque des chiffres 0..8 d'une partie
+        int mask = 0; // Bits posés
+        for (int i = 0; i < s.length(); i++) { // Chaque chiffre
+            char c = s.charAt(i); // Caractère courant
+            if (c < '0' || c > '8') throw new IllegalArgumentException("invalid rule: " + notation); // Hors 0..8
+            mask |= 1 << (c - '0'); // Pose le bit
+        }
+        return mask; // Masque
+    }
+
+    int birthMask() { return birth; } // Masque de naissance
+    int survivalMask() { return survival; } // Masque de survie
+    public boolean isConway() { return this == CONWAY; } // Règle de Conway (chemins spécialisés des moteurs) ?
+
+    public boolean next(boolean alive, int neighbours) { // État suivant d'une cellule
+        return ((alive ? survival : birth) >>> neighbours & 1) != 0; // Lecture du masque
+    }
+
+    @Override
+    public boolean equals(Object o) { // Même règle ?
+        return o instanceof Rule && ((Rule) o).birth == birth && ((Rule) o).survival == survival; // Mêmes masques
+    }
+
+    @Override
+    public int hashCode() { return birth << 9 | survival; } // Les deux masques
+
+    @Override
+    public String toString() { // Notation B/S canonique (ex. B36/S23)
+        StringBuilder sb = new StringBuilder("B"); // Partie naissance
+        for (int n = 0; n <= 8; n++) if ((birth >>> n & 1) != 0) sb.append(n); // Chiffres de naissance
+        sb.append("/S"); // Partie survie
+        for (int n = 0; n <= 8; n++) if ((survival >>> n & 1) != 0) sb.append(n); // Chiffres de survie
+        return sb.toString(); // Notation
+    }
+}
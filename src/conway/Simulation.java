@@ -0,0 +1,164 @@
+package conway;
+
+import java.util.Arrays; // Importe Arrays pour copier les zones modifiées dans la photographie
+import java.util.concurrent.ConcurrentLinkedQueue; // Importe la file sans verrou des modifications en attente
+import java.util.function.Consumer; // Importe Consumer pour représenter une modification du moteur
+
+// Fait tourner un moteur sur un thread dédié, hors de l'EDT Swing.
+// Le moteur n'est touché que par ce thread : l'IHM lui envoie des modifications (submit) et lit
+// des photographies immuables (getSnapshot). Une photographie n'est construite que lorsque le panneau
+// en redemande une, si bien que les générations intermédiaires sont sautées quand l'affichage ne suit pas.
+public class Simulation { // Boucle de simulation et canal d'échange avec l'IHM
+    public static final int UNLIMITED = 0; // Vitesse « illimitée » : aucune attente entre deux pas
+    static final long HISTORY_BYTES = 64L << 20; // Plafond mémoire de l'historique de retour en arrière (64 Mo)
+
+    private final LifeEngine life; // Moteur simulé (confiné au thread de simulation)
+    private final Thread thread; // Thread de simulation
+    private final Object lock = new Object(); // Moniteur utilisé pour endormir/réveiller le thread
+    private final ConcurrentLinkedQueue<Consumer<LifeEngine>> edits = new ConcurrentLinkedQueue<>(); // Modifications en attente
+
+    private volatile boolean running = false; // Lecture automatique en cours ?
+    private volatile int targetRate = 10; // Itérations par seconde demandées (UNLIMITED = au plus vite)
+    private volatile long stepSize = 1; // Générations avancées par itération
+    private volatile boolean snapshotRequested = true; // Le panneau attend une nouvelle photographie
+    private volatile WorldSnapshot snapshot; // Dernière photographie publiée
+    private volatile Viewport viewport; // Zone du monde que l'affichage veut voir
+    private volatile double avgStepMs = 0; // Moyenne glissante du temps d'un pas (ms)
+    private volatile int historySize = 0; // Nombre de pas pouvant être annulés
+    private volatile Cycle cycle; // Cycle détecté dans l'état courant (null : aucun)
+    private volatile boolean stopOnCycle = false; // Met la lecture en pause dès qu'un cycle est détecté
+    private volatile Rule rule; // Règle du moteur (publiée pour l'IHM : un fichier ouvert peut la changer)
+    private final History history = new History(HISTORY_BYTES); // Différences des derniers pas (thread de simulation uniquement)
+    private final SimulationMetrics metrics = new SimulationMetrics(this); // Mesures du calcul et du rendu (JMX, incrustation)
+    private boolean countingBirths = false; // Comptage des naissances demandé au moteur (thread de simulation uniquement)
+    private boolean dirty = false; // L'état a changé depuis la dernière photographie (thread de simulation uniquement)
+    private int[] changeBuffer = new int[64]; // Zones modifiées en cours de collecte (thread de simulation uniquement)
+    private int changeCount = 0; // Nombre d'entiers utilisés dans changeBuffer
+
+    public Simulation(LifeEngine life) { // Constructeur : prépare le thread sans le démarrer
+        this.life = life; // Mémorise le moteur
+        life.setChangeTracking(true); // Permet à l'affichage de ne redessiner que les zones modifiées
+        life.setCycleDetection(true); // Repère les états périodiques (arrêt automatique, pas sautés)
+        this.snapshot = WorldSnapshot.of(0, life, null, null); // Photographie initiale (le thread n'existe pas encore)
+        history.clear(life); // L'état initial est la référence de l'historique
+        this.rule = life.getRule(); // Règle initiale
+        this.thread = new Thread(this::run, "simulation"); // Thread de simulation
+        this.thread.setDaemon(true); // Ne retient pas la JVM à la fermeture de la fenêtre
+    }
+
+    public void start() { thread.start(); } // Démarre le thread de simulation
+
+    public LifeEngine getEngine() { return life; } // Moteur simulé (ne le modifier que via submit)
+    public WorldSnapshot getSnapshot() { return snapshot; } // Dernière photographie publiée
+    public Viewport getViewport() { return viewport; } // Zone demandée par l'affichage
+    public boolean isRunning() { return running; } // Lecture automatique en cours ?
+    public double getAverageStepMillis() { return avgStepMs; } // Temps moyen d'un pas
+    public int getHistorySize() { return historySize; } // Nombre de pas pouvant être annulés
+    public Cycle getCycle() { return cycle; } // Cycle détecté dans l'état courant (null : aucun)
+    public Rule getRule() { return rule; } // Règle simulée
+    public SimulationMetrics getMetrics() { return metrics; } // Mesures du calcul et du rendu
+    public int getTargetRate() { return targetRate; } // Itérations par seconde demandées (UNLIMITED = au plus vite)
+
+    public void setRunning(boolean run) { running = run; wake(); } // Démarre ou met en pause la lecture
+    public void setTargetRate(int itPerSecond) { targetRate = Math.max(UNLIMITED, itPerSecond); wake(); } // Vitesse demandée
+    public void setStepSize(long generations) { stepSize = Math.max(1, generations); } // Générations par itération
+    public void setStopOnCycle(boolean stop) { stopOnCycle = stop; wake(); } // Pause automatique sur un cycle
+
+    public void submit(Consumer<LifeEngine> edit) { // Met en file une modification, appliquée entre deux générations
+        edits.add(edit); // Ajoute à la file
+        wake(); // Réveille le thread s'il dort
+    }
+
+    public void step() { submit(l -> timedAdvance()); } // Avance d'un seul pas (bouton « Pas »)
+    public void rewind(int steps) { submit(l -> history.rewind(l, steps)); } // Annule les derniers pas ou modifications
+
+    public void setViewport(Viewport v) { // Change la zone photographiée (le panneau a été déplacé ou zoomé)
+        viewport = v; // Nouvelle zone
+        wake(); // Une photographie doit être reconstruite même en pause
+    }
+
+    public void requestSnapshot() { // Appelé par le panneau après avoir peint : il est prêt pour la suite
+        snapshotRequested = true; // Demande une nouvelle photographie
+        wake(); // Le thread peut être en pause avec un état non publié
+    }
+
+    private void wake() { // Réveille le thread de simulation
+        synchronized (lock) { lock.notifyAll(); } // Interrompt une attente éventuelle
+    }
+
+    private void run() { // Boucle principale du thread de simulation
+        long deadline = System.nanoTime(); // Date prévue du prochain pas automatique
+        try {
+            while (true) { // Jusqu'à la fin du programme (thread démon)
+                boolean edited = false; // Des modifications ont-elles été appliquées ?
+                for (Consumer<LifeEngine> e; (e = edits.poll()) != null; ) { e.accept(life); edited = dirty = true; } // Applique les modifications
+                if (edited) record(); // Les modifications forment une entrée de l'historique
+                int rate = targetRate; // Vitesse demandée
+                if (running) { // Lecture automatique
+                    if (rate == UNLIMITED || System.nanoTime() >= deadline) { // Le prochain pas est dû
+                        timedAdvance(); // Calcule le pas
+                        record(); // Mémorise la différence pour le retour en arrière
+                        if (stopOnCycle && cycle != null) running = false; // État périodique : inutile de continuer
+                        dirty = true; // Nouvel état à publier
+                        long period = rate == UNLIMITED ? 0 : 1_000_000_000L / rate; // Période en nanosecondes
+                        deadline = Math.max(deadline + period, System.nanoTime() - period); // Pas de rafale de rattrapage
+                    }
+                } else {
+                    deadline = System.nanoTime(); // Reprendra immédiatement au démarrage
+                }
+                if (stale() && snapshotRequested) { // Le panneau est prêt et l'état ou la zone a changé
+                    snapshotRequested = false; // Consomme la demande
+                    snapshot = WorldSnapshot.of(snapshot.getSerial() + 1, life, viewport, drainChanges()); // Publie la zone
+                    dirty = false; // État publié
+                }
+                if (!running) await(0); // En pause : dort jusqu'au prochain événement
+                else if (rate != UNLIMITED) await(deadline - System.nanoTime()); // En avance : dort jusqu'à l'échéance
+            }
+        } catch (InterruptedException ex) { // Interruption : fin du thread de simulation
+            Thread.currentThread().interrupt(); // Conserve l'information d'interruption
+        }
+    }
+
+    private void await(long nanos) throws InterruptedException { // Attend un événement (nanos = 0 : fin de la pause)
+        synchronized (lock) { // Moniteur partagé avec wake() : aucun réveil ne peut être perdu
+            if (nanos == 0) { // Pause : dort tant qu'il n'y a rien à faire
+                while (!running && edits.isEmpty() && !(stale() && snapshotRequested)) lock.wait(); // Attend un événement
+            } else if (nanos > 0 && running && edits.isEmpty()) { // Lecture en avance sur le rythme demandé
+                lock.wait(nanos / 1_000_000, (int) (nanos % 1_000_000)); // Attend l'échéance (ou une modification)
+            }
+        }
+    }
+
+    private int[] drainChanges() { // Zones modifiées depuis la photographie précédente (null : inconnues)
+        changeCount = 0; // Repart d'une collecte vide
+        boolean known = life.drainChanges((r0, c0, r1, c1) -> { // Recopie chaque rectangle
+            if (changeCount + 4 > changeBuffer.length) changeBuffer = Arrays.copyOf(changeBuffer, changeBuffer.length * 2); // Agrandit
+            changeBuffer[changeCount++] = r0; changeBuffer[changeCount++] = c0; // Coin haut-gauche
+            changeBuffer[changeCount++] = r1; changeBuffer[changeCount++] = c1; // Coin bas-droit (exclu)
+        });
+        return known ? Arrays.copyOf(changeBuffer, changeCount) : null; // Copie propre à la photographie
+    }
+
+    private boolean stale() { return dirty || snapshot.getRegion() != viewport; } // La photographie publiée est-elle périmée ?
+
+    private void timedAdvance() { // Avance d'un pas en mesurant sa durée
+        boolean measured = metrics.isEnabled(); // Mesures détaillées demandées ?
+        if (measured != countingBirths) life.setBirthCounting(countingBirths = measured); // Le moteur ne compte que si nécessaire
+        long births = measured ? life.getBirths() : 0, population = measured ? life.getPopulation() : 0; // État avant le pas
+        long t0 = System.nanoTime(); // Début de la mesure
+        life.advance(stepSize); // Calcule le pas
+        long nanos = System.nanoTime() - t0; // Durée du pas
+        double ms = nanos / 1e6; // Durée en millisecondes
+        avgStepMs = avgStepMs == 0 ? ms : avgStepMs * 0.9 + ms * 0.1; // Moyenne glissante (lisse les à-coups)
+        if (measured) metrics.stepped(life, nanos, births, population); // Histogramme, naissances, morts, débit
+    }
+
+    private void record() { // Ajoute l'état courant à l'historique et publie l'état du détecteur de cycles
+        history.record(life); // Différence avec l'état enregistré
+        historySize = history.size(); // Publie la profondeur pour l'IHM
+        cycle = life.getCycle(); // Publie le cycle éventuel
+        rule = life.getRule(); // Publie la règle (modifiable par une édition)
+    }
+
+    void resetTiming() { avgStepMs = 0; } // Repart d'une nouvelle mesure (changement de réglage)
+} // Fin de la classe Simulation
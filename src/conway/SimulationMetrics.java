@@ -0,0 +1,119 @@
+package conway;
+
+import java.lang.management.ManagementFactory; // Importe le serveur MBean de la plateforme
+import javax.management.JMException; // Importe les erreurs d'enregistrement JMX
+import javax.management.MBeanServer; // Importe le registre des MBeans
+import javax.management.ObjectName; // Importe le nom JMX de la simulation
+
+// Mesures de la boucle de simulation et du rendu, pour savoir si un ralentissement vient du calcul ou de la peinture.
+// Le thread de simulation fournit la durée de chaque pas, la population, les naissances et les morts ; l'EDT fournit
+// la durée de chaque paintComponent. Les lectures (JMX, incrustation de LifePanel) viennent d'autres threads.
+// Désactivée, la collecte se réduit à la lecture d'un booléen volatile par pas et par image.
+public class SimulationMetrics implements SimulationMetricsMBean { // MBean standard de la simulation
+    static final String OBJECT_NAME = "conway:type=Simulation"; // Nom JMX
+    private static final long RATE_WINDOW_NS = 1_000_000_000L; // Fenêtre de mesure du débit (1 s)
+    private static final long BOUNDS_PERIOD_NS = 1_000_000_000L; // Échantillonnage du rectangle englobant (1 s)
+    private static final long BOUNDS_MAX_POPULATION = 1L << 22; // Au-delà, le parcours des cellules coûterait plus qu'un pas
+
+    private final Simulation sim; // Simulation mesurée (vitesse demandée)
+    private final LatencyHistogram steps = new LatencyHistogram(); // Durées des pas
+    private final LatencyHistogram paints = new LatencyHistogram(); // Durées des images
+    private volatile boolean enabled; // Collecte active ?
+    private volatile long generation, population; // Dernier état mesuré
+    private volatile long births = -1, deaths = -1; // Dernier pas (-1 : inconnus)
+    private volatile String boundingBox = ""; // Dernier rectangle englobant échantillonné
+    private volatile double achievedRate; // Itérations par seconde sur la dernière fenêtre
+    private long windowStart, windowSteps, lastStepEnd; // Fenêtre de débit en cours, fin du pas précédent (thread de simulation)
+    private long lastBounds; // Date du dernier échantillon du rectangle englobant (thread de simulation)
+
+    SimulationMetrics(Simulation sim) { // Collecte désactivée, sauf -Dlife.metrics=true
+        this.sim = sim; // Simulation mesurée
+        this.enabled = Boolean.getBoolean("life.metrics"); // Réglage au lancement
+    }
+
+    void register() { // Publie le MBean sur le serveur de la plateforme (JConsole, VisualVM)
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer(); // Serveur de la JVM
+            ObjectName name = new ObjectName(OBJECT_NAME); // Nom unique
+            if (!server.isRegistered(name)) server.registerMBean(this, name); // Une seule simulation publiée
+        } catch (JMException ex) { // JMX indisponible : l'incrustation reste utilisable
+            System.err.println("JMX registration failed: " + ex.getMessage()); // Signale sans interrompre
+        }
+    }
+
+    // --- Collecte (thread de simulation et EDT) ---
+
+    void stepped(LifeEngine life, long nanos, long birthsBefore, long populationBefore) { // Un pas vient d'être calculé
+        steps.record(nanos); // Durée du pas
+        long now = System.nanoTime(); // Date de fin du pas
+        generation = life.getGeneration(); // Génération atteinte
+        long pop = life.getPopulation(), b = life.getBirths(); // Nouvel état
+        population = pop; // Population
+        if (b >= 0 && birthsBefore >= 0) { births = b - birthsBefore; deaths = births - (pop - populationBefore); } // Morts déduites
+        else births = deaths = -1; // Non suivies par ce moteur
+        if (now - lastBounds >= BOUNDS_PERIOD_NS) { lastBounds = now; boundingBox = bounds(life, pop); } // Échantillon
+        boolean resumed = now - nanos - lastStepEnd > RATE_WINDOW_NS; // Plus d'une seconde sans calcul : la lecture était en pause
+        lastStepEnd = now; // Fin de ce pas
+        if (windowSteps == 0 || resumed) { windowStart = now; windowSteps = 0; } // Nouvelle fenêtre
+        windowSteps++; // Un pas de plus dans la fenêtre
+        if (now - windowStart >= RATE_WINDOW_NS) { // Fenêtre complète
+            achievedRate = (windowSteps - 1) * 1e9 / (now - windowStart); // Intervalles entre pas par seconde
+            windowStart = now; windowSteps = 1; // Nouvelle fenêtre commençant par ce pas
+        }
+    }
+
+    void painted(long nanos) { paints.record(nanos); } // Une image vient d'être peinte
+
+    private static String bounds(LifeEngine life, long pop) { // Rectangle englobant des cellules vivantes
+        if (pop == 0) return ""; // Monde vide
+        if (pop > BOUNDS_MAX_POPULATION) return "n/a"; // Trop coûteux à parcourir
+        long[] box = { Long.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE }; // Rectangle englobant
+        life.forEachAlive((r, c) -> { // Parcours complet (au plus une fois par seconde)
+            box[0] = Math.min(box[0], r); box[1] = Math.min(box[1], c); // Coin haut-gauche
+            box[2] = Math.max(box[2], r); box[3] = Math.max(box[3], c); // Coin bas-droit
+        });
+        return box[0] + "," + box[1] + " .. " + box[2] + "," + box[3]; // Coins inclus
+    }
+
+    // --- Lecture (JMX, incrustation) ---
+
+    public boolean isEnabled() { return enabled; } // Collecte active ?
+    public void setEnabled(boolean enabled) { this.enabled = enabled; } // Active/désactive la collecte
+
+    public void reset() { // Oublie les durées et débits mesurés
+        steps.reset(); paints.reset(); // Histogrammes
+        achievedRate = 0; // Débit
+    }
+
+    public long getGeneration() { return generation; } // Génération courante
+    public long getPopulation() { return population; } // Population après le dernier pas
+    public long getBirths() { return births; } // Naissances du dernier pas
+    public long getDeaths() { return deaths; } // Morts du dernier pas
+    public String getBoundingBox() { return boundingBox; } // Rectangle englobant échantillonné
+
+    public long getStepCount() { return steps.count(); } // Pas mesurés
+    public double getStepMeanMillis() { return steps.mean() / 1e6; } // Durée moyenne d'un pas
+    public double getStepP50Millis() { return steps.percentile(50) / 1e6; } // Médiane
+    public double getStepP90Millis() { return steps.percentile(90) / 1e6; } // 90e centile
+    public double getStepP99Millis() { return steps.percentile(99) / 1e6; } // 99e centile
+    public double getStepMaxMillis() { return steps.max() / 1e6; } // Pas le plus long
+
+    public long getPaintCount() { return paints.count(); } // Images mesurées
+    public double getPaintMeanMillis() { return paints.mean() / 1e6; } // Durée moyenne d'une image
+    public double getPaintP99Millis() { return paints.percentile(99) / 1e6; } // 99e centile
+    public double getPaintMaxMillis() { return paints.max() / 1e6; } // Image la plus longue
+
+    public int getRequestedRate() { return sim.getTargetRate(); } // Vitesse demandée
+    public double getAchievedRate() { return sim.isRunning() ? achievedRate : 0; } // Vitesse obtenue (0 en pause)
+
+    String[] overlayLines() { // Texte de l'incrustation de LifePanel
+        int rate = getRequestedRate(); // Vitesse demandée
+        return new String[] {
+            String.format("gen %d  pop %d  +%s -%s", generation, population, births < 0 ? "?" : births, deaths < 0 ? "?" : deaths), // État
+            String.format("pas  moy %.2f  p50 %.2f  p99 %.2f  max %.2f ms", getStepMeanMillis(), getStepP50Millis(), getStepP99Millis(), getStepMaxMillis()), // Calcul
+            String.format("rendu  moy %.2f  p99 %.2f ms", getPaintMeanMillis(), getPaintP99Millis()), // Peinture
+            String.format("it/s %.1f / %s", getAchievedRate(), rate == Simulation.UNLIMITED ? "illimitée" : String.valueOf(rate)), // Débit
+            "boîte " + (boundingBox.isEmpty() ? "-" : boundingBox) // Étendue
+        };
+    }
+} // Fin de la classe SimulationMetrics
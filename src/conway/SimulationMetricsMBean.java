@@ -0,0 +1,31 @@
+package conway;
+
+// Interface de gestion (MBean standard) des mesures de la simulation, publiée sous « conway:type=Simulation ».
+// Lisible depuis JConsole ou VisualVM : durées en millisecondes, débits en itérations par seconde.
+// Les mesures ne sont collectées que lorsque Enabled vaut true (ou que l'IHM affiche leur incrustation).
+public interface SimulationMetricsMBean { // Attributs et opérations exposés par JMX
+    boolean isEnabled(); // Collecte active ?
+    void setEnabled(boolean enabled); // Active/désactive la collecte
+    void reset(); // Oublie les durées et débits mesurés
+
+    long getGeneration(); // Génération courante
+    long getPopulation(); // Cellules vivantes après le dernier pas
+    long getBirths(); // Naissances lors du dernier pas (-1 : non suivies par le moteur)
+    long getDeaths(); // Morts lors du dernier pas (-1 : non suivies par le moteur)
+    String getBoundingBox(); // Rectangle englobant « r0,c0 .. r1,c1 » (échantillonné, vide si inconnu)
+
+    long getStepCount(); // Pas mesurés
+    double getStepMeanMillis(); // Durée moyenne d'un pas
+    double getStepP50Millis(); // Médiane
+    double getStepP90Millis(); // 90e centile
+    double getStepP99Millis(); // 99e centile
+    double getStepMaxMillis(); // Pas le plus long
+
+    long getPaintCount(); // Images peintes mesurées
+    double getPaintMeanMillis(); // Durée moyenne de LifePanel.paintComponent
+    double getPaintP99Millis(); // 99e centile
+    double getPaintMaxMillis(); // Image la plus longue
+
+    int getRequestedRate(); // Itérations par seconde demandées (0 : illimitée)
+    double getAchievedRate(); // Itérations par seconde obtenues sur la dernière seconde de lecture
+} // Fin de l'interface SimulationMetricsMBean
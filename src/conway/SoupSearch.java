@@ -0,0 +1,206 @@
+package conway;
+
+import java.io.BufferedWriter; // Importe l'écriture tamponnée du recensement
+import java.io.IOException; // Importe l'exception d'entrée/sortie
+import java.nio.charset.StandardCharsets; // Importe l'encodage du fichier de recensement
+import java.nio.file.AtomicMoveNotSupportedException; // Importe l'échec d'un renommage atomique
+import java.nio.file.Files; // Importe l'écriture et le renommage des fichiers
+import java.nio.file.Path; // Importe le chemin du fichier de recensement
+import java.nio.file.Paths; // Importe la conversion des noms de fichiers en chemins
+import java.nio.file.StandardCopyOption; // Importe les options du renommage
+import java.util.AbstractMap; // Importe SimpleEntry pour photographier le recensement
+import java.util.ArrayList; // Importe ArrayList pour trier le recensement
+import java.util.Map; // Importe Map.Entry pour parcourir le recensement
+import java.util.concurrent.ConcurrentHashMap; // Importe le recensement partagé entre les threads
+import java.util.concurrent.ExecutionException; // Importe l'échec d'une tâche de recherche
+import java.util.concurrent.ForkJoinPool; // Importe le pool à vol de tâches
+import java.util.concurrent.ForkJoinTask; // Importe la tâche racine de la recherche
+import java.util.concurrent.RecursiveAction; // Importe la tâche fork/join découpant l'intervalle de soupes
+import java.util.concurrent.TimeUnit; // Importe l'unité de l'attente entre deux écritures
+import java.util.concurrent.TimeoutException; // Importe la fin d'une attente sans résultat
+import java.util.concurrent.atomic.AtomicLong; // Importe les compteurs partagés
+import java.util.concurrent.atomic.LongAdder; // Importe les compteurs d'objets peu contendus
+
+// Recensement de soupes aléatoires : évalue des milliers de soupes indépendantes, chacune issue d'une graine
+// (seed + i, même zone centrée que randomize), jusqu'à stabilisation ou jusqu'au plafond de générations, puis
+// compte les objets qu'elles laissent (ObjectClassifier) et écrit le recensement agrégé dans un fichier.
+// Les soupes sont réparties sur un pool fork/join à vol de tâches : chaque thread a son propre monde clairsemé,
+// rien n'est partagé hors du recensement, et le débit suit le nombre de cœurs. Le résultat ne dépend pas du
+// nombre de threads. Une soupe est stabilisée quand sa population est périodique (période <= POP_PERIOD) sur
+// les STABLE_WINDOW dernières générations : cela couvre les soupes qui émettent des planeurs, dont le monde
+// entier ne se répète jamais.
+//   java -cp out conway.SoupSearch --soups=10000 --seed=1 --output=census.txt
+//   java -cp out conway.SoupSearch --soups=100000 --size=16x16 --density=0.5 --threads=8 --rule=B36/S23 --output=highlife.txt
+public class SoupSearch { // Point d'entrée de la ligne de commande
+    private static final String USAGE = "usage: conway.SoupSearch --soups=N --output=FILE [--seed=S] [--size=RxC] [--density=D]"
+            + " [--max-generations=G] [--threads=N] [--rule=B3/S23]"; // Aide
+    private static final int POP_PERIOD = 64; // Plus longue période de population reconnue (ppcm des cendres usuelles)
+    private static final int STABLE_WINDOW = 512; // Générations sur lesquelles la population doit être périodique
+    private static final int CHECK_EVERY = 32; // Fréquence du test de stabilisation (générations)
+    private static final int GRAIN = 4; // Soupes en dessous desquelles une tâche n'est plus découpée
+    private static final long WRITE_PERIOD_MS = 10_000; // Période d'écriture du recensement partiel
+
+    private long soups = -1; // Nombre de soupes (obligatoire)
+    private long seed = 1; // Graine de la première soupe
+    private int rows = 16, cols = 16; // Taille de la zone aléatoire
+    private double density = 0.5; // Densité de la soupe
+    private int maxGenerations = 20_000; // Plafond de générations par soupe
+    private int threads = Runtime.getRuntime().availableProcessors(); // Threads de calcul
+    private Rule rule = Rule.CONWAY; // Règle simulée
+    private Path output; // Fichier du recensement (obligatoire)
+
+    private final ConcurrentHashMap<String, LongAdder> census = new ConcurrentHashMap<>(); // Code d'objet -> nombre
+    private final AtomicLong done = new AtomicLong(); // Soupes évaluées
+    private final AtomicLong unstabilised = new AtomicLong(); // Soupes arrêtées par le plafond (objets non comptés)
+    private final AtomicLong generations = new AtomicLong(); // Générations calculées au total
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new); // État propre à chaque thread
+
+    public static void main(String[] args) { // Analyse les arguments, lance la recherche, affiche le rapport
+        SoupSearch search = new SoupSearch(); // Nouvelle recherche
+        try { // Les erreurs d'arguments terminent le programme avec un message d'usage
+            search.configure(args); // Lit les options
+        } catch (IllegalArgumentException ex) { // Option invalide
+            System.err.println("error: " + ex.getMessage()); // Explique l'erreur
+            System.err.println(USAGE); // Rappelle l'usage
+            System.exit(2); // Code d'erreur des arguments invalides
+        }
+        try { // Recherche puis écriture du recensement
+            search.run(); // Calcul et rapport
+        } catch (IOException ex) { // Écriture impossible
+            System.err.println("error: " + ex.getMessage()); // Explique l'erreur
+            System.exit(1); // Échec de l'exécution
+        }
+    }
+
+    private void configure(String[] args) { // Lit les options de la ligne de commande
+        for (String arg : args) { // Parcourt les options --nom=valeur
+            int eq = arg.indexOf('='); // Séparateur nom/valeur
+            if (!arg.startsWith("--") || eq < 0) throw new IllegalArgumentException("unexpected argument: " + arg); // Forme invalide
+            String name = arg.substring(2, eq), value = arg.substring(eq + 1); // Nom et valeur de l'option
+            switch (name) { // Option reconnue ?
+                case "soups": soups = Long.parseLong(value); break; // Nombre de soupes
+                case "seed": seed = Long.parseLong(value); break; // Graine de la première soupe
+                case "density": density = Double.parseDouble(value); break; // Densité des soupes
+                case "max-generations": maxGenerations = Integer.parseInt(value); break; // Plafond par soupe
+                case "threads": threads = Integer.parseInt(value); break; // Threads de calcul
+                case "rule": rule = Rule.parse(value); break; // Règle B/S
+                case "output": output = Paths.get(value); break; // Fichier du recensement
+                case "size": { // Taille des soupes RxC
+                    int x = value.indexOf('x'); // Séparateur
+                    if (x < 0) throw new IllegalArgumentException("size must be ROWSxCOLS: " + value); // Format invalide
+                    rows = Integer.parseInt(value.substring(0, x)); cols = Integer.parseInt(value.substring(x + 1)); // Dimensions
+                    break;
+                }
+                default: throw new IllegalArgumentException("unknown option: --" + name); // Option inconnue
+            }
+        }
+        if (soups < 1) throw new IllegalArgumentException("--soups must be >= 1"); // Option obligatoire
+        if (output == null) throw new IllegalArgumentException("--output is required"); // Option obligatoire
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("size must be > 0"); // Taille invalide
+        if (threads < 1) throw new IllegalArgumentException("--threads must be >= 1"); // Threads invalides
+        if (maxGenerations < STABLE_WINDOW + POP_PERIOD) throw new IllegalArgumentException("--max-generations must be >= " + (STABLE_WINDOW + POP_PERIOD)); // Trop court pour conclure
+    }
+
+    private void run() throws IOException { // Évalue toutes les soupes en écrivant régulièrement le recensement
+        ForkJoinPool pool = new ForkJoinPool(threads); // Pool à vol de tâches
+        long t0 = System.nanoTime(); // Début de la mesure
+        try {
+            ForkJoinTask<Void> task = pool.submit(new SearchTask(0, soups)); // Toutes les soupes
+            while (true) { // Attend la fin en écrivant le recensement partiel
+                try {
+                    task.get(WRITE_PERIOD_MS, TimeUnit.MILLISECONDS); // Fin de la recherche ?
+                    break; // Terminée
+                } catch (TimeoutException ex) { // Encore en cours
+                    write(); // Recensement partiel (remplace le précédent)
+                    System.out.printf("%d/%d soups%n", done.get(), soups); // Progression
+                } catch (ExecutionException ex) { // Erreur dans une soupe
+                    throw new IllegalStateException("soup search failed", ex.getCause()); // Erreur de programmation
+                } catch (InterruptedException ex) { // Interruption : fin anticipée
+                    Thread.currentThread().interrupt(); // Conserve l'information d'interruption
+                    break; // Écrit ce qui a été recensé
+                }
+            }
+        } finally {
+            pool.shutdownNow(); // Arrête les threads du pool
+        }
+        double seconds = Math.max(System.nanoTime() - t0, 1) / 1e9; // Durée en secondes
+        write(); // Recensement final
+        long objects = 0; // Objets recensés
+        for (LongAdder a : census.values()) objects += a.sum(); // Total
+        System.out.println("rule:         " + rule); // Règle simulée
+        System.out.printf("soups:        %d in %.3f s -> %.1f soups/s (%d thread(s))%n", done.get(), seconds, done.get() / seconds, threads); // Débit
+        System.out.printf("generations:  %d -> %.4g gen/s%n", generations.get(), generations.get() / seconds); // Générations calculées
+        System.out.println("objects:      " + objects + " (" + census.size() + " distinct), " + unstabilised.get() + " soup(s) not stabilised"); // Résultat
+        System.out.println("census:       " + output); // Fichier écrit
+    }
+
+    private final class SearchTask extends RecursiveAction { // Évalue les soupes [lo, hi) en les découpant en deux
+        private static final long serialVersionUID = 1L; // Version de sérialisation (tâche jamais sérialisée)
+        private final long lo, hi; // Intervalle d'indices de soupes
+
+        SearchTask(long lo, long hi) { this.lo = lo; this.hi = hi; } // Constructeur
+
+        @Override
+        protected void compute() { // Découpe tant que l'intervalle est grand (les threads inoccupés volent l'autre moitié)
+            if (hi - lo <= GRAIN) { // Assez petit : calcul direct
+                Worker w = workers.get(); // Monde et classificateur de ce thread
+                for (long i = lo; i < hi; i++) w.soup(i); // Chaque soupe
+                return; // Terminé
+            }
+            long mid = (lo + hi) >>> 1; // Milieu de l'intervalle
+            invokeAll(new SearchTask(lo, mid), new SearchTask(mid, hi)); // Les deux moitiés en parallèle
+        }
+    }
+
+    private final class Worker { // État réutilisé d'une soupe à l'autre sur un même thread
+        private final GameOfLife world = new GameOfLife(rows, cols); // Monde clairsemé de la soupe
+        private final ObjectClassifier classifier = new ObjectClassifier(rule); // Recensement des objets
+        private final long[] populations = new long[maxGenerations + 1]; // Population à chaque génération
+
+        Worker() { world.setRule(rule); } // Règle de la recherche
+
+        void soup(long i) { // Évalue la soupe i et ajoute ses objets au recensement
+            world.clear(); // Monde vide, génération 0
+            BatchRunner.soup(world, rows, cols, density, seed + i); // Soupe reproductible (graine seed + i)
+            long[] pop = populations; // Historique local
+            pop[0] = world.getPopulation(); // Population initiale
+            int g = 0; // Génération atteinte
+            boolean stable = pop[0] == 0; // Une soupe vide est stable
+            while (!stable && g < maxGenerations) { // Jusqu'à stabilisation ou au plafond
+                world.step(); // Génération suivante
+                pop[++g] = world.getPopulation(); // Nouvelle population
+                stable = pop[g] == 0 || (g % CHECK_EVERY == 0 && g >= STABLE_WINDOW + POP_PERIOD && periodic(pop, g)); // Stabilisée ?
+            }
+            generations.addAndGet(g); // Générations calculées
+            if (stable) classifier.census(world, code -> census.computeIfAbsent(code, k -> new LongAdder()).increment()); // Objets
+            else unstabilised.incrementAndGet(); // Encore active au plafond : rien à recenser
+            done.incrementAndGet(); // Soupe terminée
+        }
+    }
+
+    private static boolean periodic(long[] pop, int g) { // La population est-elle périodique sur la fenêtre récente ?
+        for (int p = 1; p <= POP_PERIOD; p++) { // Chaque période candidate
+            int i = 0; // Générations vérifiées
+            while (i < STABLE_WINDOW && pop[g - i] == pop[g - i - p]) i++; // Compare à la période précédente
+            if (i == STABLE_WINDOW) return true; // Périodique sur toute la fenêtre
+        }
+        return false; // Population encore changeante
+    }
+
+    private void write() throws IOException { // Écrit le recensement trié (fichier temporaire puis renommage)
+        ArrayList<Map.Entry<String, Long>> lines = new ArrayList<>(); // Lignes à écrire
+        for (Map.Entry<String, LongAdder> e : census.entrySet()) lines.add(new AbstractMap.SimpleEntry<>(e.getKey(), e.getValue().sum())); // Photographie
+        lines.sort((a, b) -> a.getValue().equals(b.getValue()) ? a.getKey().compareTo(b.getKey()) : Long.compare(b.getValue(), a.getValue())); // Plus fréquents d'abord
+        Path tmp = output.resolveSibling(output.getFileName() + ".tmp"); // Fichier temporaire voisin
+        try (BufferedWriter out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) { // Écriture complète avant publication
+            out.write("# rule " + rule + ", soups " + done.get() + "/" + soups + ", seed " + seed + ", size " + rows + "x" + cols
+                    + ", density " + density + ", not stabilised " + unstabilised.get() + "\n"); // En-tête
+            for (Map.Entry<String, Long> e : lines) out.write(e.getKey() + " " + e.getValue() + "\n"); // Une ligne par objet
+        }
+        try {
+            Files.move(tmp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE); // Un lecteur ne voit jamais un fichier partiel
+        } catch (AtomicMoveNotSupportedException ex) { // Système de fichiers sans renommage atomique
+            Files.move(tmp, output, StandardCopyOption.REPLACE_EXISTING); // Remplacement simple
+        }
+    }
+} // Fin de la classe SoupSearch
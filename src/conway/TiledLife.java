@@ -0,0 +1,409 @@
+package conway;
+
+import java.util.ArrayList; // Importe ArrayList pour les listes de tuiles actives/à calculer
+import java.util.HashMap; // Importe HashMap pour l'index clairsemé des tuiles
+import java.util.Random; // Importe le générateur aléatoire utilisé par randomize()
+import java.util.concurrent.ForkJoinPool; // Importe le pool fork/join utilisé pour le calcul parallèle
+import java.util.concurrent.RecursiveAction; // Importe la tâche fork/join découpant la liste de travail
+
+// Moteur à tuiles : le monde infini est découpé en tuiles de 64x64 cellules, chaque ligne de tuile
+// tenant dans un long (bit c = colonne c de la tuile). Une génération est calculée 64 cellules à la fois
+// par des additionneurs bit à bit, et seules les tuiles modifiées à l'étape précédente (et leurs voisines)
+// sont recalculées : les natures mortes d'une soupe mature ne coûtent plus rien.
+// Les tuiles sont aussi l'unité de découpage spatial du mode parallèle : chaque tuile ne lit que l'état courant
+// (le sien et celui de ses voisines) et n'écrit que dans son propre tampon, le résultat est donc identique bit à bit
+// quel que soit le nombre de threads.
+public class TiledLife implements LifeEngine { // Second moteur, interchangeable avec GameOfLife
+    static final int SHIFT = 6; // log2 de la taille d'une tuile
+    static final int SIZE = 1 << SHIFT; // Côté d'une tuile en cellules (64 = bits d'un long)
+    static final int MASK = SIZE - 1; // Masque des coordonnées locales dans une tuile
+
+    static final class Tile { // Tuile de 64x64 cellules
+        final int tr; // Ligne de la tuile (ligne monde >> SHIFT)
+        final int tc; // Colonne de la tuile (colonne monde >> SHIFT)
+        long[] cur = new long[SIZE]; // Lignes de la génération courante
+        long[] nxt = new long[SIZE]; // Lignes de la génération suivante (échangées après calcul)
+        final Tile[] nb = new Tile[9]; // Voisines indexées par (dr+1)*3+(dc+1) ; l'indice 4 est la tuile elle-même
+        boolean active; // Modifiée depuis le dernier pas (donc à recalculer avec ses voisines)
+        boolean scheduled; // Déjà inscrite dans la liste de travail du pas en cours
+        boolean changed; // Calcul du pas courant : nxt diffère de cur
+        boolean emptyNext; // Calcul du pas courant : nxt ne contient aucune cellule vivante
+        int born; // Calcul du pas courant : cellules nées dans la tuile
+        int diffTop, diffBottom; // Calcul du pas courant : première et dernière lignes modifiées
+        long diffCols; // Calcul du pas courant : colonnes modifiées (union des lignes)
+
+        Tile(int tr, int tc) { this.tr = tr; this.tc = tc; nb[4] = this; } // Crée une tuile vide
+    }
+
+    private final int defaultRows; // Nombre de lignes par défaut utilisé pour la randomisation et l'affichage
+    private final int defaultCols; // Nombre de colonnes par défaut utilisé pour la randomisation et l'affichage
+
+    private final HashMap<Long, Tile> tiles = new HashMap<>(); // Index clairsemé : clé (tr,tc) -> tuile
+    private ArrayList<Tile> active = new ArrayList<>(); // Tuiles modifiées depuis le dernier pas
+    private ArrayList<Tile> spare = new ArrayList<>(); // Liste réutilisée pour les tuiles actives du pas suivant
+    private final ArrayList<Tile> work = new ArrayList<>(); // Tuiles à recalculer pendant le pas courant
+    private Tile lastTile; // Dernière tuile consultée (les lectures de l'IHM sont très localisées)
+    private int threads = 1; // Nombre de threads de calcul (1 = séquentiel)
+    private ForkJoinPool pool; // Pool de calcul parallèle (null en mode séquentiel)
+    private ChangeTracker changes; // Zones modifiées depuis la dernière lecture (null : suivi désactivé)
+    private CellLog log; // Cellules changées depuis la dernière lecture (null : journal désactivé)
+    private long generation = 0; // Compteur de générations écoulées
+    private Rule rule = Rule.CONWAY; // Règle simulée (Conway : additionneur spécialisé)
+    private long births = -1; // Naissances cumulées (-1 : comptage désactivé)
+
+    public TiledLife(int rows, int cols) { // Constructeur avec les dimensions par défaut
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("rows/cols must be > 0"); // Validation des paramètres
+        this.defaultRows = rows; // Affecte le nombre de lignes par défaut
+        this.defaultCols = cols; // Affecte le nombre de colonnes par défaut
+    }
+
+    public int getRows() { return defaultRows; } // Renvoie le nombre de lignes par défaut
+    public int getCols() { return defaultCols; } // Renvoie le nombre de colonnes par défaut
+    public long getGeneration() { return generation; } // Renvoie l'index de génération actuel
+    public void setGeneration(long generation) { this.generation = generation; } // Impose l'index de génération
+    public int getThreads() { return threads; } // Nombre de threads de calcul
+    public Rule getRule() { return rule; } // Règle simulée
+
+    public void setRule(Rule rule) { // Change la règle : toutes les tuiles sont à recalculer
+        if (rule.equals(this.rule)) return; // Même règle : rien à faire
+        this.rule = rule; // Nouvelle règle
+        for (Tile t : tiles.values()) markActive(t); // Une tuile stable sous l'ancienne règle peut évoluer sous la nouvelle
+    }
+    public int maxThreads() { return Runtime.getRuntime().availableProcessors(); } // Un thread par cœur au plus
+
+    public void setThreads(int threads) { // Choisit le nombre de threads de calcul
+        if (threads < 1) throw new IllegalArgumentException("threads must be >= 1"); // Validation du paramètre
+        if (threads == this.threads) return; // Rien à changer
+        if (pool != null) pool.shutdown(); // Arrête l'ancien pool (ses threads se terminent d'eux-mêmes)
+        pool = threads > 1 ? new ForkJoinPool(threads) : null; // Nouveau pool, ou aucun en séquentiel
+        this.threads = threads; // Mémorise le réglage
+    }
+
+    public long getPopulation() { // Compte les cellules vivantes de toutes les tuiles
+        long n = 0; // Total
+        for (Tile t : tiles.values()) for (long w : t.cur) n += Long.bitCount(w); // Popcount ligne par ligne
+        return n; // Population totale
+    }
+
+    public boolean isAlive(int r, int c) { // Indique si la cellule (r,c) est vivante
+        Tile t = findTile(r >> SHIFT, c >> SHIFT); // Tuile contenant la cellule
+        return t != null && (t.cur[r & MASK] >>> (c & MASK) & 1L) != 0; // Lit le bit correspondant
+    }
+
+    public void setAlive(int r, int c, boolean makeAlive) { // Force l'état (vivant/mort) d'une cellule
+        int tr = r >> SHIFT, tc = c >> SHIFT; // Coordonnées de la tuile
+        Tile t = makeAlive ? tileAt(tr, tc) : findTile(tr, tc); // Crée la tuile seulement si l'on fait naître
+        if (t == null) return; // Rien à effacer dans une tuile inexistante
+        long bit = 1L << (c & MASK); // Masque de la colonne
+        long old = t.cur[r & MASK]; // Ligne avant modification
+        long w = makeAlive ? old | bit : old & ~bit; // Ligne après modification
+        if (w == old) return; // Aucun changement
+        t.cur[r & MASK] = w; // Écrit la ligne
+        markActive(t); // La tuile et ses voisines devront être recalculées
+        if (changes != null) changes.mark(r, c); // Signale la cellule modifiée
+        if (log != null) log.add(r, c); // Note la cellule changée
+    }
+
+    public void toggle(int r, int c) { // Inverse l'état d'une cellule
+        setAlive(r, c, !isAlive(r, c)); // Délègue à setAlive
+    }
+
+    public void clear() { // Efface tout le monde
+        if (log != null) forEachAlive(log::add); // Chaque cellule vivante meurt
+        tiles.clear(); // Oublie toutes les tuiles
+        active.clear(); // Plus aucune tuile active
+        lastTile = null; // Invalide le cache de consultation
+        generation = 0; // Réinitialise le compteur de générations
+        if (changes != null) changes.markAll(); // Tout a pu changer
+    }
+
+    public void randomize(double density) { // Remplit aléatoirement la zone par défaut avec une densité donnée [0..1]
+        if (density < 0) density = 0; // Coupe la densité minimale à 0
+        if (density > 1) density = 1; // Coupe la densité maximale à 1
+        Random rnd = new Random(); // Générateur aléatoire
+        int r0 = -defaultRows / 2; // Décalage d'origine des lignes (centrer la zone autour de 0)
+        int c0 = -defaultCols / 2; // Décalage d'origine des colonnes (centrer la zone autour de 0)
+        for (int r = 0; r < defaultRows; r++) { // Parcourt chaque ligne de la zone par défaut
+            for (int c = 0; c < defaultCols; c++) { // Parcourt chaque colonne de la zone par défaut
+                setAlive(r0 + r, c0 + c, rnd.nextDouble() < density); // Avec proba=density, rendre la cellule vivante
+            }
+        }
+        generation = 0; // Réinitialise la génération, car on repart d'un nouvel état
+    }
+
+    public void forEachAlive(CellVisitor visitor) { // Parcourt toutes les cellules vivantes
+        for (Tile t : tiles.values()) { // Pour chaque tuile
+            for (int r = 0; r < SIZE; r++) { // Pour chaque ligne de la tuile
+                for (long w = t.cur[r]; w != 0; w &= w - 1) { // Pour chaque bit posé (on efface le plus bas à chaque tour)
+                    visitor.visit((t.tr << SHIFT) + r, (t.tc << SHIFT) + Long.numberOfTrailingZeros(w)); // Coordonnées monde
+                }
+            }
+        }
+    }
+
+    public void forEachAliveIn(int r0, int c0, int r1, int c1, CellVisitor visitor) { // Cellules vivantes d'un rectangle
+        forEachTileIn(r0, c0, r1, c1, (t, r, w) -> { // Pour chaque ligne de tuile, déjà masquée au rectangle
+            int row = (t.tr << SHIFT) + r, col0 = t.tc << SHIFT; // Coordonnées monde de la ligne
+            for (; w != 0; w &= w - 1) visitor.visit(row, col0 + Long.numberOfTrailingZeros(w)); // Chaque bit posé
+        });
+    }
+
+    public void countAlive(int r0, int c0, int shift, int rows, int cols, int[] out) { // Comptage par blocs, mot par mot
+        int r1 = (int) Math.min(Integer.MAX_VALUE, r0 + ((long) rows << shift)); // Borne basse exclue
+        int c1 = (int) Math.min(Integer.MAX_VALUE, c0 + ((long) cols << shift)); // Borne droite exclue
+        forEachTileIn(r0, c0, r1, c1, (t, r, w) -> { // Pour chaque ligne de tuile masquée
+            int i = (((t.tr << SHIFT) + r) - r0) >>> shift; // Ligne de blocs
+            int col0 = t.tc << SHIFT; // Colonne monde du bit 0
+            if (shift >= SHIFT) { out[i * cols + ((col0 - c0) >>> shift)] += Long.bitCount(w); return; } // Ligne entière dans un bloc
+            for (; w != 0; w &= w - 1) out[i * cols + ((col0 + Long.numberOfTrailingZeros(w) - c0) >>> shift)]++; // Bit par bit
+        });
+    }
+
+    private interface RowVisitor { void visit(Tile t, int r, long bits); } // Reçoit une ligne de tuile masquée
+
+    private void forEachTileIn(int r0, int c0, int r1, int c1, RowVisitor visitor) { // Lignes non vides d'un rectangle
+        if (r1 <= r0 || c1 <= c0) return; // Rectangle vide
+        int tr0 = r0 >> SHIFT, tr1 = (r1 - 1) >> SHIFT; // Bandes de tuiles concernées (bornes incluses)
+        int tc0 = c0 >> SHIFT, tc1 = (c1 - 1) >> SHIFT; // Colonnes de tuiles concernées
+        long span = (long) (tr1 - tr0 + 1) * (tc1 - tc0 + 1); // Nombre de tuiles couvertes par le rectangle
+        if (span <= tiles.size()) { // Peu de tuiles couvertes : recherche directe
+            for (int tr = tr0; tr <= tr1; tr++) for (int tc = tc0; tc <= tc1; tc++) { // Parcourt la zone
+                Tile t = findTile(tr, tc); // Tuile éventuelle
+                if (t != null) scanTile(t, r0, c0, r1, c1, visitor); // Lignes de la tuile
+            }
+        } else { // Rectangle immense : filtre les tuiles existantes
+            for (Tile t : tiles.values()) { // Pour chaque tuile
+                if (t.tr >= tr0 && t.tr <= tr1 && t.tc >= tc0 && t.tc <= tc1) scanTile(t, r0, c0, r1, c1, visitor); // Dans la zone
+            }
+        }
+    }
+
+    private static void scanTile(Tile t, int r0, int c0, int r1, int c1, RowVisitor visitor) { // Lignes d'une tuile dans le rectangle
+        long top = (long) t.tr << SHIFT, left = (long) t.tc << SHIFT; // Coin de la tuile
+        int lo = (int) Math.max(0, r0 - top), hi = (int) Math.min(SIZE, r1 - top); // Lignes locales concernées
+        int cl = (int) Math.max(0, c0 - left), ch = (int) Math.min(SIZE, c1 - left); // Colonnes locales [cl, ch)
+        long mask = (ch == SIZE ? -1L : (1L << ch) - 1) & (-1L << cl); // Masque des colonnes retenues
+        for (int r = lo; r < hi; r++) { // Pour chaque ligne concernée
+            long w = t.cur[r] & mask; // Bits vivants dans le rectangle
+            if (w != 0) visitor.visit(t, r, w); // Transmet les lignes non vides
+        }
+    }
+
+    public void step() { // Avance d'une génération en ne recalculant que les tuiles concernées
+        // 1) Liste de travail : tuiles actives et leurs 8 voisines (créées si des cellules du bord peuvent y naître)
+        for (Tile t : active) { // Pour chaque tuile modifiée
+            t.active = false; // Consomme le drapeau
+            for (int i = 0; i < 9; i++) { // Elle-même et ses 8 voisines
+                Tile n = t.nb[i]; // Voisine déjà connue ?
+                if (n == null) { // Voisine inexistante
+                    int dr = i / 3 - 1, dc = i % 3 - 1; // Direction de la voisine
+                    if (!touchesBorder(t, dr, dc)) continue; // Aucune naissance possible de ce côté
+                    n = tileAt(t.tr + dr, t.tc + dc); // Crée la voisine
+                }
+                if (!n.scheduled) { n.scheduled = true; work.add(n); } // Inscrit la tuile une seule fois
+            }
+        }
+        active.clear(); // Les tuiles actives ont toutes été consommées
+
+        // 2) Calcule la génération suivante de chaque tuile de travail à partir de l'état courant (lecture seule)
+        if (pool != null && work.size() >= 2 * PARALLEL_GRAIN) pool.invoke(new ComputeTask(0, work.size())); // Découpage fork/join
+        else for (Tile t : work) computeNext(t, rule); // Séquentiel : écrit dans t.nxt
+
+        // 3) Publie les résultats, repère les tuiles modifiées et élimine les tuiles mortes et stables
+        ArrayList<Tile> changed = spare; // Tuiles actives pour le prochain pas
+        for (Tile t : work) { // Pour chaque tuile calculée
+            t.scheduled = false; // Libère le marqueur
+            if (t.changed) { // La tuile a évolué
+                if (births >= 0) births += t.born; // Naissances comptées
+                if (log != null) logChanged(t); // Note les cellules modifiées (avant l'échange)
+                long[] tmp = t.cur; t.cur = t.nxt; t.nxt = tmp; // Échange les deux tampons
+                if (changes != null) markChanged(t); // Signale la partie modifiée de la tuile
+                t.active = true; // Elle (et ses voisines) seront recalculées au prochain pas
+                changed.add(t); // Ajoute à la liste des tuiles actives
+            } else if (t.emptyNext) { // Tuile vide et stable : inutile de la conserver
+                removeTile(t); // Supprime la tuile et ses liens de voisinage
+            }
+        }
+        work.clear(); // Vide la liste de travail (capacité conservée)
+        spare = active; // Recycle l'ancienne liste (vide)
+        active = changed; // Nouvelles tuiles actives
+        generation++; // Incrémente le compteur de générations
+    }
+
+    private static final int PARALLEL_GRAIN = 16; // Nombre de tuiles en dessous duquel une tâche n'est plus découpée
+
+    private final class ComputeTask extends RecursiveAction { // Calcule les tuiles work[lo, hi) en parallèle
+        private static final long serialVersionUID = 1L; // Version de sérialisation (tâche jamais sérialisée)
+        private final int lo, hi; // Intervalle d'indices dans la liste de travail
+
+        ComputeTask(int lo, int hi) { this.lo = lo; this.hi = hi; } // Constructeur
+
+        @Override
+        protected void compute() { // Découpe en deux tant que l'intervalle est grand
+            if (hi - lo <= PARALLEL_GRAIN) { // Assez petit : calcul direct
+                for (int i = lo; i < hi; i++) computeNext(work.get(i), rule); // Chaque tuile n'écrit que dans son nxt
+                return; // Terminé
+            }
+            int mid = (lo + hi) >>> 1; // Milieu de l'intervalle
+            invokeAll(new ComputeTask(lo, mid), new ComputeTask(mid, hi)); // Les deux moitiés en parallèle
+        }
+    }
+
+    private static void computeNext(Tile t, Rule rule) { // Calcule t.nxt avec des additionneurs bit à bit (64 cellules par opération)
+        boolean conway = rule.isConway(); // Additionneur spécialisé ?
+        int birth = rule.birthMask(), survival = rule.survivalMask(); // Masques de la règle générique
+        long[] cur = t.cur; // Lignes de la tuile
+        long[] nxt = t.nxt; // Lignes résultats
+        long[] n = rows(t.nb[1]), s = rows(t.nb[7]); // Tuiles nord et sud
+        long[] w = rows(t.nb[3]), e = rows(t.nb[5]); // Tuiles ouest et est
+        long[] nw = rows(t.nb[0]), ne = rows(t.nb[2]); // Tuiles nord-ouest et nord-est
+        long[] sw = rows(t.nb[6]), se = rows(t.nb[8]); // Tuiles sud-ouest et sud-est
+        long diff = 0, any = 0; // Bits modifiés et bits vivants accumulés sur toute la tuile
+        int born = 0; // Cellules nées dans la tuile
+        for (int r = 0; r < SIZE; r++) { // Pour chaque ligne de la tuile
+            long a, aw, ae; // Ligne du dessus et ses mots voisins ouest/est
+            if (r > 0) { a = cur[r - 1]; aw = w[r - 1]; ae = e[r - 1]; } // Ligne du dessus dans la même bande
+            else { a = n[MASK]; aw = nw[MASK]; ae = ne[MASK]; } // Dernière ligne des tuiles du nord
+            long b, bw, be; // Ligne du dessous et ses mots voisins
+            if (r < MASK) { b = cur[r + 1]; bw = w[r + 1]; be = e[r + 1]; } // Ligne du dessous dans la même bande
+            else { b = s[0]; bw = sw[0]; be = se[0]; } // Première ligne des tuiles du sud
+            long m = cur[r]; // Ligne courante
+            long v = conway ? rule(a, aw, ae, m, w[r], e[r], b, bw, be) // Applique la règle aux 64 cellules de la ligne
+                    : rule(birth, survival, a, aw, ae, m, w[r], e[r], b, bw, be); // Règle quelconque
+            nxt[r] = v; // Écrit la ligne résultat
+            long d = v ^ m; // Bits modifiés de la ligne
+            if (d != 0) { if (diff == 0) t.diffTop = r; t.diffBottom = r; diff |= d; } // Accumule les bits modifiés
+            any |= v; // Accumule les bits vivants
+            born += Long.bitCount(v & ~m); // Cellules nées (une instruction par ligne)
+        }
+        t.diffCols = diff; // Colonnes modifiées
+        t.changed = diff != 0; // La tuile a-t-elle changé ?
+        t.emptyNext = any == 0; // La tuile sera-t-elle vide ?
+        t.born = born; // Naissances de la tuile
+    }
+
+    private void markChanged(Tile t) { // Signale le rectangle englobant les cellules modifiées d'une tuile
+        int top = t.tr << SHIFT, left = t.tc << SHIFT; // Coin de la tuile
+        int c0 = Long.numberOfTrailingZeros(t.diffCols), c1 = SIZE - Long.numberOfLeadingZeros(t.diffCols); // Colonnes [c0,c1)
+        changes.markRect(top + t.diffTop, left + c0, top + t.diffBottom + 1, left + c1); // Au plus 16 blocs par tuile
+    }
+
+    private void logChanged(Tile t) { // Note les cellules modifiées d'une tuile : cur ^ nxt sur les lignes modifiées
+        int top = t.tr << SHIFT, left = t.tc << SHIFT; // Coin de la tuile
+        for (int r = t.diffTop; r <= t.diffBottom; r++) log.addBits(top + r, left, t.cur[r] ^ t.nxt[r]); // Bits changés
+    }
+
+    public void setChangeTracking(boolean on) { changes = on ? new ChangeTracker() : null; } // Active/désactive le suivi
+    public void setCellLogging(int limit) { log = limit > 0 ? new CellLog(limit) : null; } // Active/désactive le journal
+    public void setBirthCounting(boolean on) { if (on != births >= 0) births = on ? 0 : -1; } // Active/désactive le comptage
+    public long getBirths() { return births; } // Naissances cumulées
+
+    public boolean drainChanges(RegionVisitor visitor) { return changes != null && changes.drain(visitor); } // Zones modifiées
+    public boolean drainCells(CellVisitor visitor) { return log != null && log.drain(visitor); } // Cellules changées
+
+    // Règle de Conway pour 64 cellules : chaque argument est une ligne (a = dessus, m = milieu, b = dessous)
+    // accompagnée des mots voisins ouest/est qui fournissent les bits traversant la frontière de tuile.
+    static long rule(long a, long aw, long ae, long m, long mw, long me, long b, long bw, long be) {
+        long aL = (a << 1) | (aw >>> 63), aR = (a >>> 1) | (ae << 63); // Voisins gauche/droite de la ligne du dessus
+        long mL = (m << 1) | (mw >>> 63), mR = (m >>> 1) | (me << 63); // Voisins gauche/droite de la ligne courante
+        long bL = (b << 1) | (bw >>> 63), bR = (b >>> 1) | (be << 63); // Voisins gauche/droite de la ligne du dessous
+        return next(aL, a, aR, mL, m, mR, bL, b, bR); // Additionneur sur les lignes décalées
+    }
+
+    // Règle de Conway pour 64 cellules, à partir des lignes déjà décalées : xL (resp. xR) porte au bit i la cellule
+    // située à gauche (resp. à droite) de la cellule i de la ligne x. Partagé avec DenseLife, dont les lignes
+    // ne sont pas découpées en tuiles.
+    static long next(long aL, long a, long aR, long mL, long m, long mR, long bL, long b, long bR) {
+        long sA = aL ^ a ^ aR, cA = (aL & a) | (aR & (aL ^ a)); // Additionneur complet : 3 voisins du dessus
+        long sB = bL ^ b ^ bR, cB = (bL & b) | (bR & (bL ^ b)); // Additionneur complet : 3 voisins du dessous
+        long sM = mL ^ mR, cM = mL & mR; // Demi-additionneur : 2 voisins latéraux
+        long ones = sA ^ sB ^ sM; // Bit de poids 1 du nombre de voisins
+        long c1 = (sA & sB) | (sM & (sA ^ sB)); // Retenue de poids 2 issue des bits de poids 1
+        // Le nombre de voisins vaut 2 ou 3 si exactement une des quatre retenues de poids 2 est posée
+        long x = cA ^ cB, y = cM ^ c1; // Parités partielles des retenues
+        long twos = (x ^ y) & ~((cA & cB) | (cM & c1)); // Exactement une retenue (trois retenues forcent une paire)
+        return twos & (ones | m); // Naissance avec 3 voisins, survie avec 2 ou 3
+    }
+
+    // Règle B/S quelconque pour 64 cellules : le nombre de voisins est calculé en entier sur quatre plans de bits
+    // (poids 1, 2, 4, 8), puis comparé à chaque valeur retenue par les masques de naissance et de survie.
+    static long rule(int birth, int survival, long a, long aw, long ae, long m, long mw, long me, long b, long bw, long be) {
+        long aL = (a << 1) | (aw >>> 63), aR = (a >>> 1) | (ae << 63); // Voisins gauche/droite de la ligne du dessus
+        long mL = (m << 1) | (mw >>> 63), mR = (m >>> 1) | (me << 63); // Voisins gauche/droite de la ligne courante
+        long bL = (b << 1) | (bw >>> 63), bR = (b >>> 1) | (be << 63); // Voisins gauche/droite de la ligne du dessous
+        return next(birth, survival, aL, a, aR, mL, m, mR, bL, b, bR); // Plans de bits sur les lignes décalées
+    }
+
+    // Règle B/S quelconque pour 64 cellules, à partir des lignes déjà décalées (voir next ci-dessus).
+    static long next(int birth, int survival, long aL, long a, long aR, long mL, long m, long mR, long bL, long b, long bR) {
+        long sA = aL ^ a ^ aR, cA = (aL & a) | (aR & (aL ^ a)); // Additionneur complet : 3 voisins du dessus
+        long sB = bL ^ b ^ bR, cB = (bL & b) | (bR & (bL ^ b)); // Additionneur complet : 3 voisins du dessous
+        long sM = mL ^ mR, cM = mL & mR; // Demi-additionneur : 2 voisins latéraux
+        long ones = sA ^ sB ^ sM; // Bit de poids 1 du nombre de voisins
+        long c1 = (sA & sB) | (sM & (sA ^ sB)); // Retenue de poids 2 issue des bits de poids 1
+        long s2 = cA ^ cB ^ cM, c2 = (cA & cB) | (cM & (cA ^ cB)); // Additionneur complet des trois retenues de poids 2
+        long twos = s2 ^ c1, c3 = s2 & c1; // Bit de poids 2, retenue de poids 4
+        long fours = c2 ^ c3, eights = c2 & c3; // Bits de poids 4 et 8 (8 voisins au plus)
+        long born = 0, kept = 0; // Cellules où le nombre de voisins est retenu par la règle
+        for (int n = 0; n <= 8; n++) { // Chaque nombre de voisins possible
+            if (((birth | survival) >>> n & 1) == 0) continue; // Absent de la règle
+            long eq = ((n & 1) != 0 ? ones : ~ones) & ((n & 2) != 0 ? twos : ~twos) // Nombre de voisins égal à n
+                    & ((n & 4) != 0 ? fours : ~fours) & ((n & 8) != 0 ? eights : ~eights);
+            if ((birth >>> n & 1) != 0) born |= eq; // Naissance
+            if ((survival >>> n & 1) != 0) kept |= eq; // Survie
+        }
+        return (born & ~m) | (kept & m); // Les mortes naissent, les vivantes survivent
+    }
+
+    private static final long[] EMPTY = new long[SIZE]; // Lignes d'une tuile absente (toutes mortes)
+
+    private static long[] rows(Tile t) { return t == null ? EMPTY : t.cur; } // Lignes d'une voisine éventuellement absente
+
+    private static boolean touchesBorder(Tile t, int dr, int dc) { // Une cellule vivante borde-t-elle la voisine (dr,dc) ?
+        long[] cur = t.cur; // Lignes de la tuile
+        long col = dc < 0 ? 1L : dc > 0 ? 1L << MASK : -1L; // Colonnes concernées (bord ouest, bord est, toutes)
+        if (dr < 0) return (cur[0] & col) != 0; // Voisine du nord : première ligne
+        if (dr > 0) return (cur[MASK] & col) != 0; // Voisine du sud : dernière ligne
+        for (long w : cur) if ((w & col) != 0) return true; // Voisine ouest/est : colonne de bord
+        return false; // Aucune cellule de bord vivante
+    }
+
+    private Tile findTile(int tr, int tc) { // Tuile existante ou null
+        Tile t = lastTile; // Essaie d'abord la dernière tuile consultée
+        if (t != null && t.tr == tr && t.tc == tc) return t; // Même tuile que précédemment
+        t = tiles.get(key(tr, tc)); // Recherche dans l'index
+        if (t != null) lastTile = t; // Mémorise pour la prochaine consultation
+        return t; // Tuile trouvée ou null
+    }
+
+    private Tile tileAt(int tr, int tc) { // Tuile existante ou nouvellement créée et reliée à ses voisines
+        Tile t = findTile(tr, tc); // Recherche d'abord une tuile existante
+        if (t != null) return t; // Déjà présente
+        t = new Tile(tr, tc); // Crée une tuile vide
+        tiles.put(key(tr, tc), t); // L'enregistre dans l'index
+        for (int i = 0; i < 9; i++) { // Relie la tuile à ses voisines existantes
+            if (i == 4) continue; // Ignore la tuile elle-même
+            Tile n = tiles.get(key(tr + i / 3 - 1, tc + i % 3 - 1)); // Voisine dans la direction i
+            if (n != null) { t.nb[i] = n; n.nb[8 - i] = t; } // Lien dans les deux sens (8 - i = direction opposée)
+        }
+        lastTile = t; // Mémorise la tuile créée
+        return t; // Nouvelle tuile
+    }
+
+    private void removeTile(Tile t) { // Retire une tuile de l'index et de ses voisines
+        tiles.remove(key(t.tr, t.tc)); // Retire de l'index
+        for (int i = 0; i < 9; i++) { // Défait les liens de voisinage
+            Tile n = t.nb[i]; // Voisine dans la direction i
+            if (i != 4 && n != null) { n.nb[8 - i] = null; t.nb[i] = null; } // Oublie la tuile retirée
+        }
+        if (lastTile == t) lastTile = null; // Invalide le cache de consultation
+    }
+
+    private void markActive(Tile t) { // Inscrit une tuile modifiée hors simulation (édition, randomisation)
+        if (!t.active) { t.active = true; active.add(t); } // Une seule inscription par pas
+    }
+
+    private static long key(int tr, int tc) { // Encode une paire (tr,tc) dans un long
+        return (((long) tr) << 32) ^ (((long) tc) & 0xffffffffL); // Même encodage que GameOfLife
+    }
+} // Fin de la classe TiledLife
@@ -0,0 +1,21 @@
+package conway;
+
+// Zone du monde demandée par l'affichage : une grille de rows x cols blocs de 2^shift x 2^shift cellules
+// dont le coin supérieur gauche est la cellule (row0, col0), alignée sur 2^shift.
+// shift = 0 quand une cellule occupe au moins un pixel ; au-delà, un bloc correspond à un pixel.
+public final class Viewport { // Valeur immuable échangée entre le panneau et le thread de simulation
+    final int row0; // Ligne monde du coin supérieur gauche (multiple de 2^shift)
+    final int col0; // Colonne monde du coin supérieur gauche (multiple de 2^shift)
+    final int shift; // log2 du côté d'un bloc en cellules
+    final int rows; // Nombre de lignes de blocs
+    final int cols; // Nombre de colonnes de blocs
+
+    Viewport(int row0, int col0, int shift, int rows, int cols) { // Constructeur
+        this.row0 = row0; this.col0 = col0; this.shift = shift; this.rows = rows; this.cols = cols; // Mémorise la zone
+    }
+
+    boolean covers(long r0, long c0, long r1, long c1, int shift) { // La zone contient-elle le rectangle [r0,r1)x[c0,c1) ?
+        return shift == this.shift && r0 >= row0 && c0 >= col0 // Même niveau de détail et coin inclus
+                && r1 <= row0 + ((long) rows << shift) && c1 <= col0 + ((long) cols << shift); // Coin opposé inclus
+    }
+} // Fin de la classe Viewport
@@ -0,0 +1,45 @@
+package conway;
+
+// Photographie immuable du monde publiée par le thread de simulation et lue par l'IHM.
+// Elle ne couvre que la zone demandée par l'affichage (Viewport) : le coût de sa construction dépend
+// du nombre de pixels, pas de la taille du motif. Une fois construite elle n'est plus jamais modifiée.
+// Elle transporte aussi les zones modifiées depuis la photographie précédente (numéro serial - 1), ce qui permet
+// à l'affichage de ne redessiner que ces zones.
+public final class WorldSnapshot { // État figé d'une génération
+    private final long serial; // Numéro de la photographie (consécutifs d'une publication à l'autre)
+    private final long generation; // Génération photographiée
+    private final long population; // Nombre de cellules vivantes (monde entier)
+    private final Viewport region; // Zone photographiée (null : aucune zone demandée)
+    private final int[] counts; // Cellules vivantes par bloc de la zone (rows x cols, ligne par ligne)
+    private final int[] changes; // Rectangles modifiés (r0,c0,r1,c1 à la suite) ; null : tout a pu changer
+
+    WorldSnapshot(long serial, long generation, long population, Viewport region, int[] counts, int[] changes) { // Constructeur
+        this.serial = serial; // Mémorise le numéro
+        this.generation = generation; // Mémorise la génération
+        this.population = population; // Mémorise la population
+        this.region = region; // Mémorise la zone
+        this.counts = counts; // Mémorise les comptages (tableau non partagé)
+        this.changes = changes; // Mémorise les zones modifiées (tableau non partagé)
+    }
+
+    static WorldSnapshot of(long serial, LifeEngine life, Viewport region, int[] changes) { // Photographie un moteur (thread de simulation)
+        int[] counts = null; // Pas de grille sans zone demandée
+        if (region != null) { // Requête de zone sur le modèle, écrite directement dans la grille
+            counts = new int[region.rows * region.cols]; // Grille vide
+            life.countAlive(region.row0, region.col0, region.shift, region.rows, region.cols, counts); // Comptage par blocs
+        }
+        return new WorldSnapshot(serial, life.getGeneration(), life.getPopulation(), region, counts, changes); // Photographie immuable
+    }
+
+    public long getSerial() { return serial; } // Numéro de la photographie
+    public long getGeneration() { return generation; } // Génération photographiée
+    public long getPopulation() { return population; } // Nombre de cellules vivantes
+    public Viewport getRegion() { return region; } // Zone photographiée
+    int countAt(int i, int j) { return counts[i * region.cols + j]; } // Cellules vivantes du bloc (i,j) de la zone
+
+    boolean forEachChange(LifeEngine.RegionVisitor visitor) { // Zones modifiées depuis la photographie précédente
+        if (changes == null) return false; // Inconnues : tout a pu changer
+        for (int i = 0; i < changes.length; i += 4) visitor.visit(changes[i], changes[i + 1], changes[i + 2], changes[i + 3]); // Chaque rectangle
+        return true; // Liste complète
+    }
+} // Fin de la classe WorldSnapshot
@@ -0,0 +1,76 @@
+package conway;
+
+import static org.junit.Assert.assertEquals; // Importe l'assertion d'égalité de JUnit
+import static org.junit.Assert.assertTrue; // Importe l'assertion booléenne de JUnit
+
+import java.io.ByteArrayInputStream; // Importe le flux de relecture en mémoire
+import java.io.ByteArrayOutputStream; // Importe le flux d'écriture en mémoire
+import java.io.IOException; // Importe l'exception d'entrée/sortie
+
+import org.junit.Test; // Importe l'annotation des méthodes de test
+
+// Sauvegardes binaires : écrire puis relire redonne les mêmes cellules, la même règle et la même génération,
+// compressées ou non, d'un moteur à l'autre.
+public class CheckpointTest { // Tests de Checkpoint.write / Checkpoint.read
+    private static final String[] ENGINES = { "sparse", "tiled", "hashlife", "dense" }; // Moteurs comparés
+
+    @Test
+    public void roundTripKeepsCellsRuleAndGeneration() throws IOException { // Toutes les paires de moteurs
+        for (boolean compress : new boolean[] { false, true }) { // Corps brut puis compressé
+            for (String writer : ENGINES) { // Moteur qui sauvegarde
+                LifeEngine source = LifeEngine.create(writer, 60, 60); // Monde fini assez grand pour la soupe
+                source.setRule(Rule.parse("B36/S23")); // Règle autre que Conway
+                EngineChecks.soup(source, 11, -25, -20, 50, 40, 0.3); // Soupe décentrée
+                source.advance(5); // Quelques générations
+                source.setGeneration(9876543210L); // Génération bien au-delà des int
+                byte[] bytes = save(source, compress); // Sauvegarde en mémoire
+                for (String reader : ENGINES) { // Moteur qui relit
+                    LifeEngine copy = LifeEngine.create(reader, 60, 60); // Monde déjà occupé : la relecture le remplace
+                    EngineChecks.soup(copy, 3, -10, -10, 20, 20, 0.5); // Cellules à effacer
+                    Checkpoint.read(new ByteArrayInputStream(bytes), copy); // Relit
+                    String where = writer + " -> " + reader + (compress ? " (compressed)" : ""); // Contexte du message d'échec
+                    assertEquals(where, EngineChecks.cells(source), EngineChecks.cells(copy)); // Mêmes cellules
+                    assertEquals(where, source.getRule(), copy.getRule()); // Même règle
+                    assertEquals(where, source.getGeneration(), copy.getGeneration()); // Même génération
+                }
+            }
+        }
+    }
+
+    @Test
+    public void roundTripKeepsFarCellsAndEmptyWorlds() throws IOException { // Coordonnées extrêmes et monde vide
+        LifeEngine source = new GameOfLife(16, 16); // Monde infini
+        source.setAlive(Integer.MIN_VALUE, Integer.MAX_VALUE, true); // Coin extrême
+        source.setAlive(Integer.MAX_VALUE, Integer.MIN_VALUE, true); // Coin opposé
+        source.setAlive(0, 0, true); source.setAlive(0, 1000000, true); // Même ligne, grand écart
+        source.setGeneration(Long.MAX_VALUE); // Plus grande génération
+        LifeEngine empty = new GameOfLife(16, 16); // Monde vide
+        empty.setRule(Rule.parse("B2/S")); // Règle seule
+        for (LifeEngine life : new LifeEngine[] { source, empty }) { // Chaque cas
+            for (boolean compress : new boolean[] { false, true }) { // Corps brut puis compressé
+                LifeEngine copy = new GameOfLife(16, 16); // Monde vide
+                Checkpoint.read(new ByteArrayInputStream(save(life, compress)), copy); // Aller-retour
+                assertEquals(EngineChecks.cells(life), EngineChecks.cells(copy)); // Mêmes cellules
+                assertEquals(life.getRule(), copy.getRule()); // Même règle
+                assertEquals(life.getGeneration(), copy.getGeneration()); // Même génération
+            }
+        }
+    }
+
+    @Test
+    public void rejectsForeignFiles() throws IOException { // Signature absente
+        boolean rejected = false; // L'erreur attendue s'est-elle produite ?
+        try {
+            Checkpoint.read(new ByteArrayInputStream("x = 3, y = 1\n3o!\n".getBytes("US-ASCII")), new GameOfLife(16, 16)); // Fichier RLE
+        } catch (IllegalArgumentException ex) { // Signature refusée
+            rejected = true; // Comportement attendu
+        }
+        assertTrue(rejected); // Le fichier a été refusé
+    }
+
+    private static byte[] save(LifeEngine life, boolean compress) throws IOException { // Sauvegarde en mémoire
+        ByteArrayOutputStream out = new ByteArrayOutputStream(); // Flux en mémoire
+        Checkpoint.write(life, out, compress); // Sauvegarde
+        return out.toByteArray(); // Octets écrits
+    }
+} // Fin de la classe CheckpointTest
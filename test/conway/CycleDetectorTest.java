@@ -0,0 +1,71 @@
+package conway;
+
+import static org.junit.Assert.assertEquals; // Importe l'assertion d'égalité de JUnit
+import static org.junit.Assert.assertTrue; // Importe l'assertion booléenne de JUnit
+
+import org.junit.Test; // Importe l'annotation des méthodes de test
+
+// Détection des cycles de GameOfLife : période et déplacement de motifs connus, puis sauts advance(n) comparés à un
+// second moteur sans détection qui calcule chaque génération. Le clignotant entre deux blocs garde le même rectangle
+// englobant à toutes les phases : seule l'empreinte des cellules distingue ses deux phases.
+public class CycleDetectorTest { // Tests de la détection et du saut des cycles
+    private static final int[][] BLOCK = { { 0, 0 }, { 0, 1 }, { 1, 0 }, { 1, 1 } }; // Bloc
+    private static final int[][] GLIDER = { { 0, 1 }, { 1, 2 }, { 2, 0 }, { 2, 1 }, { 2, 2 } }; // Planeur vers le sud-est
+
+    @Test
+    public void stillLifeIsStable() { // Bloc : période 1, aucun déplacement
+        Cycle cycle = run(new int[][][] { BLOCK }, new int[][] { { 0, 0 } }, 4); // Bloc seul
+        assertEquals(1, cycle.getPeriod()); // Nature morte
+        assertTrue(!cycle.isMoving()); // Immobile
+    }
+
+    @Test
+    public void blinkerInsideFixedBoxIsPeriodTwo() { // Les deux phases ont le même rectangle englobant
+        Cycle cycle = run(new int[][][] { BLOCK, BLOCK, { { 0, 0 }, { 1, 0 }, { 2, 0 } } }, // Deux blocs et un clignotant vertical
+                new int[][] { { -1, 0 }, { 0, 10 }, { -1, 5 } }, 10); // Lignes -1..1 et colonnes 0..11 à toutes les phases
+        assertEquals(2, cycle.getPeriod()); // Oscillateur de période 2, pas une nature morte
+        assertTrue(!cycle.isMoving()); // Immobile
+    }
+
+    @Test
+    public void gliderIsPeriodFourMovingOneOne() { // Vaisseau : un pas en diagonale toutes les 4 générations
+        Cycle cycle = run(new int[][][] { GLIDER }, new int[][] { { 0, 0 } }, 12); // Planeur seul
+        assertEquals(4, cycle.getPeriod()); // Période 4
+        assertEquals(1, cycle.getRowShift()); // Une ligne vers le bas
+        assertEquals(1, cycle.getColShift()); // Une colonne vers la droite
+    }
+
+    @Test
+    public void skippedCyclesMatchReference() { // advance(n) saute les cycles : le résultat doit être celui du calcul complet
+        int[][][][] worlds = { { BLOCK, BLOCK, { { 0, 0 }, { 1, 0 }, { 2, 0 } } }, { GLIDER } }; // Clignotant entre blocs, planeur
+        int[][][] places = { { { -1, 0 }, { 0, 10 }, { -1, 5 } }, { { 0, 0 } } }; // Positions des objets
+        for (int w = 0; w < worlds.length; w++) { // Chaque monde
+            for (long jump : new long[] { 1, 2, 3, 1001 }) { // Sauts pairs, impairs, hors période
+                GameOfLife life = new GameOfLife(16, 16), reference = new GameOfLife(16, 16); // Avec et sans détection
+                life.setCycleDetection(true); // Détection active (comme dans l'IHM)
+                place(life, worlds[w], places[w]); place(reference, worlds[w], places[w]); // Même monde
+                for (int t = 0; t < 12; t++) { life.step(); reference.step(); } // Le cycle est confirmé
+                life.advance(jump); // Saut
+                for (long t = 0; t < jump; t++) reference.step(); // Générations calculées une à une
+                assertEquals("world " + w + ", jump " + jump, EngineChecks.cells(reference), EngineChecks.cells(life)); // Même état
+                assertEquals("world " + w + ", jump " + jump, reference.getGeneration(), life.getGeneration()); // Même génération
+            }
+        }
+    }
+
+    private static Cycle run(int[][][] objects, int[][] at, int steps) { // Cycle détecté après steps générations
+        GameOfLife life = new GameOfLife(16, 16); // Monde clairsemé
+        life.setCycleDetection(true); // Détection active
+        place(life, objects, at); // Pose les objets
+        for (int t = 0; t < steps; t++) life.step(); // Générations observées
+        Cycle cycle = life.getCycle(); // Cycle confirmé
+        assertTrue("no cycle after " + steps + " generations", cycle != null); // Un cycle doit être connu
+        return cycle; // Période et déplacement
+    }
+
+    private static void place(LifeEngine life, int[][][] objects, int[][] at) { // Pose chaque objet à sa position
+        for (int i = 0; i < objects.length; i++) { // Chaque objet
+            for (int[] p : objects[i]) life.setAlive(at[i][0] + p[0], at[i][1] + p[1], true); // Chaque cellule
+        }
+    }
+} // Fin de la classe CycleDetectorTest
@@ -0,0 +1,95 @@
+package conway;
+
+import static org.junit.Assert.assertEquals; // Importe l'assertion d'égalité de JUnit
+
+import java.util.Random; // Importe le générateur aléatoire des grilles (graine fixe)
+
+import org.junit.Test; // Importe l'annotation des méthodes de test
+
+// DenseLife comparé à une grille naïve de booléens qui applique la règle cellule par cellule, avec le même bord
+// (mort ou refermé en tore) : tailles impaires et lignes qui ne remplissent pas leur dernier mot, monde d'une ligne
+// ou d'une colonne, plusieurs règles, calcul parallèle. Loin des bords, il doit aussi suivre GameOfLife.
+public class DenseLifeTest { // Tests du moteur dense
+    private static final int[][] SIZES = { { 37, 101 }, { 64, 64 }, { 65, 129 }, { 5, 200 }, { 1, 70 }, { 9, 1 } }; // Lignes x colonnes
+
+    @Test
+    public void deadBorderMatchesNaiveGrid() { // Rien n'entre par les bords
+        for (int[] size : SIZES) assertMatchesNaive(size[0], size[1], false, Rule.CONWAY, 30); // Chaque taille
+    }
+
+    @Test
+    public void torusMatchesNaiveGrid() { // Les bords opposés sont voisins
+        for (int[] size : SIZES) assertMatchesNaive(size[0], size[1], true, Rule.CONWAY, 30); // Chaque taille
+    }
+
+    @Test
+    public void otherRulesMatchNaiveGrid() { // Additionneur générique, dans les deux modes de bord
+        for (String rule : new String[] { "B36/S23", "B3678/S34678", "B2/S", "B1357/S02468" }) { // HighLife, Day & Night, Seeds, ...
+            assertMatchesNaive(37, 101, false, Rule.parse(rule), 15); // Bord mort
+            assertMatchesNaive(37, 101, true, Rule.parse(rule), 15); // Tore
+        }
+    }
+
+    @Test
+    public void parallelMatchesNaiveGrid() { // Découpage en bandes de lignes : résultat identique bit à bit
+        assertMatchesNaive(301, 257, true, Rule.CONWAY, 10, 4); // Assez de lignes pour découper
+    }
+
+    @Test
+    public void interiorMatchesReference() { // Une soupe loin des bords évolue comme dans le monde infini
+        DenseLife life = new DenseLife(200, 200, false); // Bord à 100 cellules du centre
+        GameOfLife reference = new GameOfLife(40, 40); // Référence
+        EngineChecks.soup(life, 5, -20, -20, 40, 40, 0.35); // Même soupe de 40x40
+        EngineChecks.soup(reference, 5, -20, -20, 40, 40, 0.35); // Dans les deux moteurs
+        for (int t = 1; t <= 60; t++) { // Une cellule par génération au plus : le bord n'est jamais atteint
+            life.step(); reference.step(); // Génération suivante
+            assertEquals("generation " + t, EngineChecks.cells(reference), EngineChecks.cells(life)); // Mêmes cellules
+            assertEquals("generation " + t, reference.getPopulation(), life.getPopulation()); // Même population
+        }
+    }
+
+    private static void assertMatchesNaive(int rows, int cols, boolean wrap, Rule rule, int steps) { // Calcul séquentiel
+        assertMatchesNaive(rows, cols, wrap, rule, steps, 1); // Un seul thread
+    }
+
+    private static void assertMatchesNaive(int rows, int cols, boolean wrap, Rule rule, int steps, int threads) {
+        DenseLife life = new DenseLife(rows, cols, wrap); // Moteur testé
+        life.setRule(rule); // Règle testée
+        life.setThreads(threads); // Séquentiel ou parallèle
+        int top = -(rows / 2), left = -(cols / 2); // Coin du monde (centré en (0,0))
+        boolean[][] grid = new boolean[rows][cols]; // Grille de référence
+        Random rnd = new Random(rows * 31 + cols); // Graine fixe par taille
+        for (int i = 0; i < rows; i++) for (int j = 0; j < cols; j++) { // Chaque cellule du monde
+            grid[i][j] = rnd.nextDouble() < 0.4; // Soupe
+            if (grid[i][j]) life.setAlive(top + i, left + j, true); // Même cellule dans le moteur
+        }
+        for (int t = 0; t <= steps; t++) { // État initial puis chaque génération
+            if (t > 0) { grid = naiveStep(grid, rule, wrap); life.step(); } // Génération suivante
+            String where = rows + "x" + cols + (wrap ? " torus " : " dead border ") + rule + ", generation " + t; // Contexte
+            long population = 0; // Population de la grille
+            for (int i = 0; i < rows; i++) for (int j = 0; j < cols; j++) { // Chaque cellule
+                if (grid[i][j]) population++; // Vivante
+                assertEquals(where + ", cell " + i + "," + j, grid[i][j], life.isAlive(top + i, left + j)); // Même état
+            }
+            assertEquals(where, population, life.getPopulation()); // Même population
+            assertEquals(where, false, life.isAlive(top - 1, left) || life.isAlive(top, left + cols)); // Rien hors du monde
+        }
+    }
+
+    private static boolean[][] naiveStep(boolean[][] grid, Rule rule, boolean wrap) { // Une génération, cellule par cellule
+        int rows = grid.length, cols = grid[0].length; // Taille du monde
+        boolean[][] next = new boolean[rows][cols]; // Génération suivante
+        for (int i = 0; i < rows; i++) for (int j = 0; j < cols; j++) { // Chaque cellule
+            int n = 0; // Voisins vivants
+            for (int di = -1; di <= 1; di++) for (int dj = -1; dj <= 1; dj++) { // Les 8 voisins (dans un tore étroit, la cellule elle-même ou deux fois le même)
+                if (di == 0 && dj == 0) continue; // Ignore la cellule elle-même
+                int a = i + di, b = j + dj; // Position du voisin
+                if (wrap) { a = Math.floorMod(a, rows); b = Math.floorMod(b, cols); } // Tore : bords opposés voisins
+                else if (a < 0 || a >= rows || b < 0 || b >= cols) continue; // Bord mort
+                if (grid[a][b]) n++; // Voisin vivant
+            }
+            next[i][j] = rule.next(grid[i][j], n); // Règle
+        }
+        return next; // Nouvelle grille
+    }
+} // Fin de la classe DenseLifeTest
@@ -0,0 +1,41 @@
+package conway;
+
+import static org.junit.Assert.assertEquals; // Importe l'assertion d'égalité de JUnit
+
+import java.util.Random; // Importe le générateur aléatoire des soupes (graine fixe : tests reproductibles)
+import java.util.TreeSet; // Importe TreeSet pour comparer des ensembles de cellules triés
+
+// Outils communs aux tests des moteurs : soupes reproductibles et comparaison pas à pas avec GameOfLife,
+// le moteur clairsemé qui sert de référence (monde infini, une cellule à la fois, aucune astuce de calcul).
+final class EngineChecks { // Méthodes statiques, aucune instance
+    private EngineChecks() { } // Classe non instanciable
+
+    static void soup(LifeEngine life, long seed, int top, int left, int rows, int cols, double density) { // Remplit un rectangle
+        Random rnd = new Random(seed); // Même graine : même soupe dans chaque moteur
+        for (int r = 0; r < rows; r++) { // Chaque ligne du rectangle
+            for (int c = 0; c < cols; c++) if (rnd.nextDouble() < density) life.setAlive(top + r, left + c, true); // Cellule vivante
+        }
+    }
+
+    static TreeSet<Long> cells(LifeEngine life) { // Cellules vivantes triées (clés r,c comme GameOfLife)
+        TreeSet<Long> cells = new TreeSet<>(); // Ensemble trié : message d'échec lisible
+        life.forEachAlive((r, c) -> cells.add((((long) r) << 32) ^ (((long) c) & 0xffffffffL))); // Chaque cellule
+        return cells; // Cellules du moteur
+    }
+
+    // Pose la même soupe (size x size, centrée en (0,0)) dans life et dans GameOfLife, puis compare les deux moteurs
+    // après chaque génération : cellules, population et numéro de génération.
+    static void assertMatchesReference(LifeEngine life, Rule rule, long seed, int size, int steps) {
+        GameOfLife reference = new GameOfLife(size, size); // Moteur de référence
+        reference.setRule(rule); life.setRule(rule); // Même règle
+        soup(reference, seed, -size / 2, -size / 2, size, size, 0.35); // Même soupe
+        soup(life, seed, -size / 2, -size / 2, size, size, 0.35); // Dans les deux moteurs
+        for (int t = 0; t <= steps; t++) { // État initial puis chaque génération
+            if (t > 0) { reference.step(); life.step(); } // Génération suivante
+            String where = rule + ", seed " + seed + ", generation " + t; // Contexte du message d'échec
+            assertEquals(where, cells(reference), cells(life)); // Mêmes cellules
+            assertEquals(where, reference.getPopulation(), life.getPopulation()); // Même population
+            assertEquals(where, reference.getGeneration(), life.getGeneration()); // Même génération
+        }
+    }
+} // Fin de la classe EngineChecks
@@ -0,0 +1,56 @@
+package conway;
+
+import static org.junit.Assert.assertEquals; // Importe l'assertion d'égalité de JUnit
+
+import org.junit.Test; // Importe l'annotation des méthodes de test
+
+// HashLife comparé à GameOfLife : génération par génération (pas de 2^0), puis par sauts advance(n) décomposés en
+// puissances de 2, qui réutilisent les résultats mémorisés du quadtree.
+public class HashLifeTest { // Tests du moteur HashLife
+    @Test
+    public void conwaySoupMatchesReference() { // Pas unitaires, règle de Conway
+        EngineChecks.assertMatchesReference(new HashLife(100, 100), Rule.CONWAY, 1, 100, 60); // Soupe de 100x100
+    }
+
+    @Test
+    public void otherRulesMatchReference() { // Table 4x4 construite depuis la règle
+        for (String rule : new String[] { "B36/S23", "B3678/S34678", "B2/S", "B1357/S02468" }) { // HighLife, Day & Night, Seeds, ...
+            EngineChecks.assertMatchesReference(new HashLife(64, 64), Rule.parse(rule), 2, 64, 20); // Soupe de 64x64
+        }
+    }
+
+    @Test
+    public void advanceMatchesReference() { // Sauts de longueurs quelconques (plusieurs bits posés)
+        HashLife life = new HashLife(64, 64); // Moteur testé
+        GameOfLife reference = new GameOfLife(64, 64); // Référence, calculée génération par génération
+        EngineChecks.soup(life, 4, -32, -32, 64, 64, 0.35); // Même soupe
+        EngineChecks.soup(reference, 4, -32, -32, 64, 64, 0.35); // Dans les deux moteurs
+        long done = 0; // Générations écoulées
+        for (long jump : new long[] { 1, 7, 64, 333, 1000 }) { // Sauts successifs
+            life.advance(jump); // Saut HashLife
+            for (long i = 0; i < jump; i++) reference.step(); // Mêmes générations, une à une
+            done += jump; // Total
+            assertEquals("generation " + done, EngineChecks.cells(reference), EngineChecks.cells(life)); // Mêmes cellules
+            assertEquals("generation " + done, done, life.getGeneration()); // Compteur de générations
+        }
+    }
+
+    @Test
+    public void ruleChangeAfterCollectionMatchesReference() { // Petit cache : purges en plein calcul, puis changement de règle
+        String[] rules = { "B2/S", "B36/S23", "B3678/S34678", "B1357/S02468" }; // Règles appliquées après Conway
+        for (int run = 0; run < 12; run++) { // Soupes et durées variées
+            HashLife life = new HashLife(64, 64, 1024); // Cache minimal : les purges laissent des nœuds hors de la table
+            GameOfLife reference = new GameOfLife(64, 64); // Référence
+            EngineChecks.soup(life, run, -16, -16, 32, 32, 0.35); // Même soupe
+            EngineChecks.soup(reference, run, -16, -16, 32, 32, 0.35); // Dans les deux moteurs
+            long before = 37L * (run % 5 + 1); // Générations sous Conway
+            life.advance(before); // Saut HashLife (remplit et purge le cache)
+            for (long i = 0; i < before; i++) reference.step(); // Mêmes générations
+            Rule rule = Rule.parse(rules[run % rules.length]); // Nouvelle règle
+            life.setRule(rule); reference.setRule(rule); // Changée dans les deux moteurs
+            life.advance(64); // Les résultats mémorisés sous Conway ne doivent plus servir
+            for (int i = 0; i < 64; i++) reference.step(); // Mêmes générations
+            assertEquals("run " + run + ", " + rule, EngineChecks.cells(reference), EngineChecks.cells(life)); // Mêmes cellules
+        }
+    }
+} // Fin de la classe HashLifeTest
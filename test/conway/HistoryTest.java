@@ -0,0 +1,79 @@
+package conway;
+
+import static org.junit.Assert.assertEquals; // Importe l'assertion d'égalité de JUnit
+
+import java.util.ArrayList; // Importe ArrayList pour les états successifs
+import java.util.List; // Importe List
+import java.util.TreeSet; // Importe TreeSet pour les cellules triées
+
+import org.junit.Test; // Importe l'annotation des méthodes de test
+
+// Retour en arrière : après une suite de pas et de modifications, chaque annulation ramène exactement l'état
+// (cellules et génération) d'avant, avec ou sans journal des cellules dans le moteur.
+public class HistoryTest { // Tests de History.record / History.rewind
+    private static final String[] ENGINES = { "sparse", "tiled", "hashlife", "dense" }; // HashLife : suivi par miroir
+
+    @Test
+    public void rewindRestoresEveryPreviousState() { // Pas, sauts, modifications, effacement
+        for (String name : ENGINES) { // Chaque moteur
+            LifeEngine life = LifeEngine.create(name, 64, 64); // Monde fini assez grand pour la soupe
+            History history = new History(Simulation.HISTORY_BYTES); // Plafond de l'application
+            EngineChecks.soup(life, 5, -16, -16, 32, 32, 0.35); // État de départ
+            history.clear(life); // Référence
+            List<TreeSet<Long>> states = new ArrayList<>(); // États d'avant chaque entrée
+            List<Long> generations = new ArrayList<>(); // Générations d'avant chaque entrée
+            for (int op = 0; op < 40; op++) { // Opérations variées
+                states.add(EngineChecks.cells(life)); generations.add(life.getGeneration()); // État à retrouver
+                if (op == 20) life.clear(); // Effacement (génération remise à 0)
+                else if (op == 21) EngineChecks.soup(life, op, -20, -20, 40, 40, 0.4); // Nouvelle soupe
+                else if (op % 7 == 3) { life.toggle(op / 2, -op / 2); life.toggle(-op / 2, op / 3); } // Modification à la main (dans le monde fini)
+                else if (op % 7 == 5) life.advance(8); // Saut de plusieurs générations
+                else life.step(); // Pas unitaire
+                history.record(life); // Une entrée par opération
+            }
+            assertEquals(name, 40, history.size()); // Rien n'a été oublié
+            for (int op = 39; op >= 0; op--) { // Annule une opération à la fois
+                assertEquals(name, 1, history.rewind(life, 1)); // Une entrée annulée
+                assertEquals(name + ", op " + op, states.get(op), EngineChecks.cells(life)); // Cellules d'avant
+                assertEquals(name + ", op " + op, (long) generations.get(op), life.getGeneration()); // Génération d'avant
+            }
+            assertEquals(name, 0, history.rewind(life, 1)); // Plus rien à annuler
+        }
+    }
+
+    @Test
+    public void unrecordedEditsAreRewoundFirst() { // Les modifications depuis le dernier enregistrement forment une entrée
+        for (String name : ENGINES) { // Chaque moteur
+            LifeEngine life = LifeEngine.create(name, 64, 64); // Monde fini
+            History history = new History(Simulation.HISTORY_BYTES); // Plafond de l'application
+            EngineChecks.soup(life, 9, -8, -8, 16, 16, 0.4); // État de départ
+            history.clear(life); // Référence
+            life.step(); history.record(life); // Un pas enregistré
+            TreeSet<Long> stepped = EngineChecks.cells(life); // État après le pas
+            life.toggle(30, 30); life.toggle(-30, -31); // Modifications non enregistrées
+            assertEquals(name, 1, history.rewind(life, 1)); // Annule les modifications seules
+            assertEquals(name, stepped, EngineChecks.cells(life)); // État après le pas
+            assertEquals(name, 1, life.getGeneration()); // Génération inchangée
+        }
+    }
+
+    @Test
+    public void ringGrowsWithoutLosingOlderEntries() { // Anneau agrandi alors que sa plus ancienne entrée ne commence pas au début
+        LifeEngine life = new GameOfLife(64, 64); // Moteur avec journal
+        History history = new History(2048 * 16); // Anneau de 2048 cases au plus (256 entrées), alloué à 1024
+        history.clear(life); // Référence : monde vide
+        for (int i = 0; i < 300; i++) { life.toggle(i, 0); history.record(life); } // Les plus anciennes entrées sont oubliées
+        assertEquals(256, history.size()); // Plafond des entrées
+        TreeSet<Long> before = EngineChecks.cells(life); // État avant la grande modification
+        for (int i = 0; i < 1500; i++) life.toggle(1000 + i / 50, i % 50); // 1500 cellules : l'anneau doit grandir
+        history.record(life); // Entrée plus grande que l'anneau initial
+        assertEquals(256, history.size()); // Une ancienne entrée de plus oubliée
+        assertEquals(1, history.rewind(life, 1)); // Annule la grande modification
+        assertEquals(before, EngineChecks.cells(life)); // État d'avant
+        for (int i = 299; i >= 45; i--) { // Les entrées restantes, de la plus récente à la plus ancienne
+            assertEquals(1, history.rewind(life, 1)); // Une entrée annulée
+            assertEquals(i, life.getPopulation()); // Cellule i retirée
+        }
+        assertEquals(0, history.size()); // Tout a été annulé
+    }
+} // Fin de la classe HistoryTest
@@ -0,0 +1,67 @@
+package conway;
+
+import static org.junit.Assert.assertEquals; // Importe l'assertion d'égalité de JUnit
+
+import java.util.ArrayList; // Importe ArrayList pour recueillir les codes du recensement
+import java.util.Collections; // Importe Collections pour trier les codes
+
+import org.junit.Test; // Importe l'annotation des méthodes de test
+
+// Codes canoniques d'ObjectClassifier comparés aux apgcodes publiés par Catagolue pour des objets connus : le code
+// ne doit dépendre ni de la position, ni de l'orientation, ni de la phase de l'objet.
+public class ObjectClassifierTest { // Tests du classement des objets
+    private static final int[][] GLIDER = { { 0, 1 }, { 1, 2 }, { 2, 0 }, { 2, 1 }, { 2, 2 } }; // Planeur vers le sud-est
+
+    @Test
+    public void blockIsStillLife() { // Bloc : nature morte de 4 cellules
+        assertEquals("xs4_33", classify(new int[][] { { 0, 0 }, { 0, 1 }, { 1, 0 }, { 1, 1 } }, 0, 0)); // Bloc
+        assertEquals("xs4_33", classify(new int[][] { { 0, 0 }, { 0, 1 }, { 1, 0 }, { 1, 1 } }, -500, 1000)); // Ailleurs
+    }
+
+    @Test
+    public void beehiveIsStillLife() { // Ruche : nature morte de 6 cellules
+        assertEquals("xs6_696", classify(new int[][] { { 0, 1 }, { 0, 2 }, { 1, 0 }, { 1, 3 }, { 2, 1 }, { 2, 2 } }, 0, 0)); // Horizontale
+        assertEquals("xs6_696", classify(new int[][] { { 1, 0 }, { 2, 0 }, { 0, 1 }, { 3, 1 }, { 1, 2 }, { 2, 2 } }, 0, 0)); // Verticale
+    }
+
+    @Test
+    public void blinkerIsOscillator() { // Clignotant : période 2, quelle que soit la phase
+        assertEquals("xp2_7", classify(new int[][] { { 0, 0 }, { 0, 1 }, { 0, 2 } }, 0, 0)); // Phase horizontale
+        assertEquals("xp2_7", classify(new int[][] { { 0, 0 }, { 1, 0 }, { 2, 0 } }, 7, -3)); // Phase verticale
+    }
+
+    @Test
+    public void gliderIsSpaceship() { // Planeur : période 4, dans les quatre directions
+        for (int orientation = 0; orientation < 4; orientation++) { // Chaque quart de tour
+            int[][] cells = new int[GLIDER.length][]; // Planeur tourné
+            for (int i = 0; i < GLIDER.length; i++) { // Rotation de chaque cellule
+                int r = GLIDER[i][0], c = GLIDER[i][1]; // Cellule d'origine
+                for (int q = 0; q < orientation; q++) { int t = r; r = c; c = -t; } // Quart de tour
+                cells[i] = new int[] { r, c }; // Cellule tournée
+            }
+            assertEquals("orientation " + orientation, "xq4_153", classify(cells, 0, 0)); // Même code
+        }
+    }
+
+    @Test
+    public void censusSeparatesObjects() { // Objets éloignés : un code chacun
+        GameOfLife world = new GameOfLife(16, 16); // Monde à recenser
+        put(world, new int[][] { { 0, 0 }, { 0, 1 }, { 1, 0 }, { 1, 1 } }, 0, 0); // Bloc
+        put(world, new int[][] { { 0, 0 }, { 0, 1 }, { 0, 2 } }, 0, 20); // Clignotant
+        put(world, GLIDER, 20, 0); // Planeur
+        ArrayList<String> codes = new ArrayList<>(); // Codes trouvés
+        new ObjectClassifier(Rule.CONWAY).census(world, codes::add); // Recensement
+        Collections.sort(codes); // Ordre indépendant du parcours
+        assertEquals("[xp2_7, xq4_153, xs4_33]", codes.toString()); // Un objet de chaque sorte
+    }
+
+    private static String classify(int[][] cells, int dr, int dc) { // Code de l'objet posé en (dr,dc)
+        long[] keys = new long[cells.length]; // Clés (r,c) comme GameOfLife
+        for (int i = 0; i < cells.length; i++) keys[i] = (((long) (cells[i][0] + dr)) << 32) ^ ((cells[i][1] + dc) & 0xffffffffL); // Cellule
+        return new ObjectClassifier(Rule.CONWAY).classify(keys); // Code canonique
+    }
+
+    private static void put(LifeEngine world, int[][] cells, int dr, int dc) { // Pose un objet en (dr,dc)
+        for (int[] p : cells) world.setAlive(p[0] + dr, p[1] + dc, true); // Chaque cellule
+    }
+} // Fin de la classe ObjectClassifierTest
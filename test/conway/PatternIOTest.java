@@ -0,0 +1,69 @@
+package conway;
+
+import static org.junit.Assert.assertEquals; // Importe l'assertion d'égalité de JUnit
+
+import java.io.IOException; // Importe l'exception d'entrée/sortie
+import java.nio.charset.StandardCharsets; // Importe l'encodage des fichiers écrits à la main
+import java.nio.file.Files; // Importe Files pour les fichiers temporaires
+import java.nio.file.Path; // Importe Path pour désigner les fichiers
+import java.util.TreeSet; // Importe TreeSet pour les cellules attendues
+
+import org.junit.Test; // Importe l'annotation des méthodes de test
+
+// Formats de motifs : une sauvegarde relue dans un moteur vide redonne les mêmes cellules (à la même position),
+// la même règle et la même génération, quel que soit le moteur qui écrit et celui qui relit.
+public class PatternIOTest { // Tests des formats RLE et Macrocell
+    private static final String[] ENGINES = { "sparse", "tiled", "hashlife", "dense" }; // Moteurs comparés
+
+    @Test
+    public void rleRoundTripKeepsCellsRuleAndGeneration() throws IOException { // Pos= et Gen= de l'extension de Golly
+        assertRoundTrip(".rle"); // Toutes les paires de moteurs
+    }
+
+    @Test
+    public void macrocellRoundTripKeepsCellsRuleAndGeneration() throws IOException { // #R et #G
+        assertRoundTrip(".mc"); // Toutes les paires de moteurs
+    }
+
+    @Test
+    public void rleReadsGollyExtensionInAnyOrder() throws IOException { // Champs du #CXRLE dans un ordre quelconque
+        Path file = Files.createTempFile("pattern", ".rle"); // Fichier écrit à la main
+        try {
+            String text = "#CXRLE Gen=42 Pos=-1,-2\nx = 3, y = 1, rule = B36/S23\n3o!\n"; // Clignotant dont le coin est en x=-1, y=-2
+            Files.write(file, text.getBytes(StandardCharsets.US_ASCII)); // Écrit le fichier
+            LifeEngine life = new GameOfLife(16, 16); // Monde vide
+            PatternIO.load(file, life); // Relit
+            assertEquals(42, life.getGeneration()); // Génération de Gen=
+            assertEquals(Rule.parse("B36/S23"), life.getRule()); // Règle de l'en-tête
+            TreeSet<Long> expected = new TreeSet<>(); // Cellules attendues, mêmes clés que EngineChecks.cells
+            for (int c = -1; c <= 1; c++) expected.add((-2L << 32) ^ (c & 0xffffffffL)); // Ligne y=-2, colonnes x=-1..1
+            assertEquals(expected, EngineChecks.cells(life)); // Clignotant à la position de Pos=
+        } finally {
+            Files.deleteIfExists(file); // Nettoie
+        }
+    }
+
+    private static void assertRoundTrip(String extension) throws IOException { // Écrit avec chaque moteur, relit avec chacun
+        for (String writer : ENGINES) { // Moteur qui sauvegarde
+            LifeEngine source = LifeEngine.create(writer, 60, 60); // Monde fini assez grand pour la soupe
+            source.setRule(Rule.parse("B36/S23")); // Règle autre que Conway
+            EngineChecks.soup(source, 7, -20, -25, 40, 50, 0.3); // Soupe décentrée
+            source.advance(5); // Quelques générations
+            source.setGeneration(123456789L); // Génération bien au-delà des int
+            Path file = Files.createTempFile("pattern", extension); // Fichier de sauvegarde
+            try {
+                PatternIO.save(source, file); // Sauvegarde
+                for (String reader : ENGINES) { // Moteur qui relit
+                    LifeEngine copy = LifeEngine.create(reader, 60, 60); // Monde vide
+                    PatternIO.load(file, copy); // Relit
+                    String where = writer + " -> " + reader + " (" + extension + ")"; // Contexte du message d'échec
+                    assertEquals(where, EngineChecks.cells(source), EngineChecks.cells(copy)); // Mêmes cellules, même position
+                    assertEquals(where, source.getRule(), copy.getRule()); // Même règle
+                    assertEquals(where, source.getGeneration(), copy.getGeneration()); // Même génération
+                }
+            } finally {
+                Files.deleteIfExists(file); // Nettoie
+            }
+        }
+    }
+} // Fin de la classe PatternIOTest
@@ -0,0 +1,40 @@
+package conway;
+
+import static org.junit.Assert.assertEquals; // Importe l'assertion d'égalité de JUnit
+
+import org.junit.Test; // Importe l'annotation des méthodes de test
+
+// TiledLife comparé pas à pas à GameOfLife : soupes couvrant plusieurs tuiles (coordonnées négatives comprises),
+// règle de Conway (additionneur spécialisé) et règles quelconques (plans de bits), calcul séquentiel et parallèle.
+public class TiledLifeTest { // Tests du moteur à tuiles
+    @Test
+    public void conwaySoupMatchesReference() { // Additionneur spécialisé, frontières de tuiles dans les deux sens
+        EngineChecks.assertMatchesReference(new TiledLife(150, 150), Rule.CONWAY, 1, 150, 80); // Soupe de 150x150
+    }
+
+    @Test
+    public void otherRulesMatchReference() { // Additionneur générique (nombre de voisins sur quatre plans de bits)
+        for (String rule : new String[] { "B36/S23", "B3678/S34678", "B2/S", "B1357/S02468" }) { // HighLife, Day & Night, Seeds, ...
+            EngineChecks.assertMatchesReference(new TiledLife(90, 90), Rule.parse(rule), 2, 90, 25); // Soupe de 90x90
+        }
+    }
+
+    @Test
+    public void parallelMatchesReference() { // Découpage fork/join : résultat identique bit à bit
+        TiledLife life = new TiledLife(400, 400); // Assez de tuiles pour découper la liste de travail
+        life.setThreads(4); // Calcul parallèle, quel que soit le nombre de cœurs
+        EngineChecks.assertMatchesReference(life, Rule.CONWAY, 3, 400, 15); // Soupe de 400x400
+    }
+
+    @Test
+    public void editsOnTileBordersAreSeen() { // Une cellule posée au bord d'une tuile réveille ses voisines
+        TiledLife life = new TiledLife(16, 16); // Monde vide
+        GameOfLife reference = new GameOfLife(16, 16); // Référence
+        int[][] blinker = { { 63, 63 }, { 64, 63 }, { 65, 63 } }; // Clignotant à cheval sur deux tuiles
+        for (int[] p : blinker) { life.setAlive(p[0], p[1], true); reference.setAlive(p[0], p[1], true); } // Même motif
+        for (int t = 1; t <= 4; t++) { // Quelques générations
+            life.step(); reference.step(); // Génération suivante
+            assertEquals("generation " + t, EngineChecks.cells(reference), EngineChecks.cells(life)); // Mêmes cellules
+        }
+    }
+} // Fin de la classe TiledLifeTest